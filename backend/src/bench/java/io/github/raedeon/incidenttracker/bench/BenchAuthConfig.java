@@ -0,0 +1,51 @@
+// This file swaps Google token validation for a local HMAC key so the seeded load test can mint its own JWTs.
+
+package io.github.raedeon.incidenttracker.bench;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+
+// Not a @Configuration: it is only registered by SeededLoadTest, never picked up by component scanning
+class BenchAuthConfig {
+
+    private static final SecretKey KEY;
+
+    static {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        KEY = new SecretKeySpec(secret, "HmacSHA256");
+    }
+
+    // Replaces the issuer-uri based decoder that Spring Boot would otherwise build
+    @Bean
+    JwtDecoder benchJwtDecoder() {
+        return NimbusJwtDecoder.withSecretKey(KEY).macAlgorithm(MacAlgorithm.HS256).build();
+    }
+
+    // A token carrying the email claim the authorities converter looks up
+    static String token(String email, Duration validity) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(email)
+                .claim("email", email)
+                .issuedAt(now)
+                .expiresAt(now.plus(validity))
+                .build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(KEY))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+}
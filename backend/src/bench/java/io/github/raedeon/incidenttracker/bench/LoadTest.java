@@ -0,0 +1,158 @@
+// This file is a closed-loop HTTP load generator for the ticket API; it reports throughput and latency per endpoint.
+//
+// Usage (against a running backend):
+//   mvn -Pbench test-compile exec:java -Dbench.url=http://localhost:8080 -Dbench.token=<JWT> \
+//       -Dbench.concurrency=200 -Dbench.duration=PT30S -Dbench.warmup=PT5S \
+//       -Dbench.paths=/api/tickets/page?limit=50,/api/tickets/stats?range=monthly
+
+package io.github.raedeon.incidenttracker.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class LoadTest {
+
+    // Latencies and status counts for one endpoint, recorded by a single worker
+    static final class Samples {
+        long[] latenciesNanos = new long[1024];
+        int count;
+        final Map<String, Integer> statuses = new TreeMap<>();
+
+        void add(long nanos, String status) {
+            if (count == latenciesNanos.length) {
+                latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+            }
+            latenciesNanos[count++] = nanos;
+            statuses.merge(status, 1, Integer::sum);
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > latenciesNanos.length) {
+                latenciesNanos = Arrays.copyOf(latenciesNanos, count + other.count);
+            }
+            System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+            count += other.count;
+            other.statuses.forEach((k, v) -> statuses.merge(k, v, Integer::sum));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.url", "http://localhost:8080");
+        String token = System.getProperty("bench.token", System.getenv("INCIDENT_TOKEN"));
+        int concurrency = Integer.getInteger("bench.concurrency", 50);
+        Duration duration = Duration.parse(System.getProperty("bench.duration", "PT30S"));
+        Duration warmup = Duration.parse(System.getProperty("bench.warmup", "PT5S"));
+        List<String> paths = List.of(System.getProperty("bench.paths",
+                "/api/tickets/page?limit=50,/api/tickets/stats?range=monthly").split(","));
+
+        Report report = run(baseUrl, token, concurrency, warmup, duration, paths);
+        report.print(System.out);
+    }
+
+    // Runs the load and returns per-path samples; also used by the seeded benchmark runner
+    static Report run(String baseUrl, String token, int concurrency, Duration warmup, Duration duration,
+                      List<String> paths) throws InterruptedException {
+        ExecutorService clientPool = Executors.newFixedThreadPool(Math.max(4, concurrency / 8));
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientPool)
+                .build();
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String path : paths) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path.trim()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET();
+            if (token != null && !token.isBlank()) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            requests.add(builder.build());
+        }
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        List<Samples[]> perWorker = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int w = 0; w < concurrency; w++) {
+            Samples[] samples = new Samples[requests.size()];
+            Arrays.setAll(samples, i -> new Samples());
+            perWorker.add(samples);
+            int offset = w;
+            workers.execute(() -> {
+                try {
+                    for (int i = offset; System.nanoTime() < end; i++) {
+                        int index = i % requests.size();
+                        long start = System.nanoTime();
+                        String status;
+                        try {
+                            status = Integer.toString(client.send(requests.get(index),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode());
+                        } catch (Exception e) {
+                            status = e.getClass().getSimpleName();
+                        }
+                        long finished = System.nanoTime();
+                        if (start >= warmupEnd) {
+                            samples[index].add(finished - start, status);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+        clientPool.shutdown(); // exec:java waits for non-daemon threads before exiting
+
+        Samples[] merged = new Samples[requests.size()];
+        Arrays.setAll(merged, i -> new Samples());
+        for (Samples[] samples : perWorker) {
+            for (int i = 0; i < samples.length; i++) {
+                merged[i].addAll(samples[i]);
+            }
+        }
+        return new Report(paths, merged, duration, concurrency);
+    }
+
+    record Report(List<String> paths, Samples[] samples, Duration duration, int concurrency) {
+
+        public void print(java.io.PrintStream out) {
+            out.printf("concurrency=%d duration=%ss%n", concurrency, duration.toSeconds());
+            out.printf("%-60s %9s %9s %9s %9s %9s  %s%n", "endpoint", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "statuses");
+            for (int i = 0; i < paths.size(); i++) {
+                Samples s = samples[i];
+                long[] sorted = Arrays.copyOf(s.latenciesNanos, s.count);
+                Arrays.sort(sorted);
+                out.printf("%-60s %9.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                        paths.get(i).trim(),
+                        s.count / (double) duration.toSeconds(),
+                        percentileMs(sorted, 50), percentileMs(sorted, 90), percentileMs(sorted, 99),
+                        sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0,
+                        s.statuses);
+            }
+        }
+
+        private static double percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// This file runs the HTTP load harness against a throwaway PostgreSQL seeded with a configurable number of tickets.
+//
+// Usage:
+//   mvn -Pbench test-compile exec:java -Dbench.main=io.github.raedeon.incidenttracker.bench.SeededLoadTest \
+//       -Dbench.tickets=1000000 -Dbench.concurrency=16,64 -Dbench.duration=PT30S
+//
+// Server and load generator share one JVM, so compare numbers between runs on the same machine rather than
+// reading them as production capacity. Spring properties can be overridden the same way, e.g.
+// -Dincident.stats.cache.max-size=0 to measure /stats without its result cache.
+
+package io.github.raedeon.incidenttracker.bench;
+
+import io.github.raedeon.incidenttracker.IncidentTrackerApplication;
+import io.github.raedeon.incidenttracker.service.TicketService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public class SeededLoadTest {
+
+    private static final String BENCH_USER = "bench@example.com";
+
+    public static void main(String[] args) throws Exception {
+        int tickets = Integer.getInteger("bench.tickets", 1_000_000);
+        int[] concurrencyLevels = Arrays.stream(System.getProperty("bench.concurrency", "16,64").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration duration = Duration.parse(System.getProperty("bench.duration", "PT30S"));
+        Duration warmup = Duration.parse(System.getProperty("bench.warmup", "PT10S"));
+        List<String> paths = List.of(System.getProperty("bench.paths", String.join(",",
+                "/api/tickets/page?limit=50",
+                "/api/tickets/page?limit=50&module=FIN&status=Open",
+                "/api/tickets/page?limit=50&breachedOnly=true&from=" + java.time.LocalDate.now().minusDays(90),
+                "/api/tickets/search?q=bench-4242&limit=20",
+                "/api/tickets/stats?range=daily",
+                "/api/tickets/stats?range=monthly",
+                "/api/tickets/stats/report?range=daily&byModule=true")).split(","));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            ConfigurableApplicationContext context = start(postgres);
+            try {
+                seed(context, tickets);
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                String token = BenchAuthConfig.token(BENCH_USER, Duration.ofHours(12));
+
+                for (int concurrency : concurrencyLevels) {
+                    System.out.printf("%n== %,d tickets ==%n", tickets);
+                    LoadTest.run("http://localhost:" + port, token, concurrency, warmup, duration, paths)
+                            .print(System.out);
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    // Starts the backend on a random port against the given database; Flyway creates the schema
+    static ConfigurableApplicationContext start(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(IncidentTrackerApplication.class, BenchAuthConfig.class)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true",
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "spring.jpa.hibernate.ddl-auto=validate",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+                        "spring.devtools.restart.enabled=false",
+                        "server.port=0",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    // Bulk-inserts tickets spread over three years in SQL, then rebuilds the stats rollup from them
+    static void seed(ConfigurableApplicationContext context, int tickets) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long start = System.nanoTime();
+
+        jdbc.update("INSERT INTO users (email, role) VALUES (?, 'ADMIN') ON CONFLICT DO NOTHING", BENCH_USER);
+
+        // A quarter of the tickets are open; open tickets past due and late closures carry a breach date
+        jdbc.update("""
+                INSERT INTO ticket (id, ticket_id, module, date_logged, sla_due_date, days_to_sla,
+                                    status, day_closed, breached_date, breach_reason)
+                SELECT nextval('ticket_seq'), 'BENCH-' || g,
+                       (ARRAY['HR', 'FIN', 'OPS', 'IT', 'SALES', 'LEGAL'])[1 + g % 6],
+                       logged, logged + ?::int, 0,
+                       CASE WHEN g % 4 = 0 THEN 'Open' ELSE 'Closed' END,
+                       CASE WHEN g % 4 = 0 THEN NULL ELSE logged + g % 9 END,
+                       CASE WHEN g % 4 = 0 AND logged + ?::int < current_date THEN current_date
+                            WHEN g % 4 <> 0 AND g % 9 > ?::int THEN logged + ?::int + 1 END,
+                       NULL
+                FROM generate_series(1, ?::int) AS g
+                CROSS JOIN LATERAL (SELECT current_date - (g % 1095) AS logged) AS d
+                """,
+                TicketService.SLA_DAYS, TicketService.SLA_DAYS, TicketService.SLA_DAYS, TicketService.SLA_DAYS,
+                tickets);
+        jdbc.execute("ANALYZE ticket");
+
+        context.getBean(TicketService.class).rebuildIncidentStats();
+        System.out.printf("Seeded %,d tickets in %.1fs%n", tickets, (System.nanoTime() - start) / 1e9);
+    }
+}
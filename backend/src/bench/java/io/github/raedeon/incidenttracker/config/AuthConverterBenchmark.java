@@ -0,0 +1,84 @@
+// This file benchmarks the JWT-to-authorities conversion that runs on every authenticated request.
+
+package io.github.raedeon.incidenttracker.config;
+
+import io.github.raedeon.incidenttracker.model.Role;
+import io.github.raedeon.incidenttracker.model.User;
+import io.github.raedeon.incidenttracker.repository.UserRepository;
+import io.github.raedeon.incidenttracker.service.UserRoleCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthConverterBenchmark {
+
+    // Role cache size; 0 sends every conversion through the repository (an in-memory stub here,
+    // so the difference is cache overhead, not database latency)
+    @Param({"10000", "0"})
+    public long cacheSize;
+
+    private JwtAuthenticationConverter converter;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() throws Exception {
+        User user = new User("bench@example.com", Role.ADMIN);
+        UserRepository users = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[] {UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        // Same converter the filter chain uses, wired to the stub repository
+        SecurityConfig config = new SecurityConfig();
+        Field cacheField = SecurityConfig.class.getDeclaredField("userRoleCache");
+        cacheField.setAccessible(true);
+        cacheField.set(config, new UserRoleCache(users, new SimpleMeterRegistry(), cacheSize, Duration.ofMinutes(5)));
+        Method factory = SecurityConfig.class.getDeclaredMethod("jwtAuthenticationConverter");
+        factory.setAccessible(true);
+        converter = (JwtAuthenticationConverter) factory.invoke(config);
+
+        Instant now = Instant.now();
+        jwt = Jwt.withTokenValue("bench")
+                .header("alg", "none")
+                .subject("bench")
+                .claim("email", user.getEmail())
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .build();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return converter.convert(jwt);
+    }
+}
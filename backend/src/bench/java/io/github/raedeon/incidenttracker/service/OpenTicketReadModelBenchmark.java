@@ -0,0 +1,103 @@
+// This file benchmarks the open-ticket read model: dashboard reads, and the cost of applying a single-ticket change.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.OpenTicketDue;
+import io.github.raedeon.incidenttracker.dto.OpenTicketSummary;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OpenTicketReadModelBenchmark {
+
+    private static final String[] MODULES = {"HR", "FIN", "OPS", "IT", "SALES", "LEGAL"};
+
+    // Open tickets held by the model, spread over six modules and a year of due dates
+    @Param({"10000", "250000"})
+    public int openTickets;
+
+    private OpenTicketReadModel model;
+    private TicketChangeEvent reopenEvent;
+
+    @Setup
+    public void setUp() throws Exception {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(openTickets);
+        for (int i = 0; i < openTickets; i++) {
+            LocalDate logged = today.minusDays(i % 365);
+            rows.add(new Object[] {(long) i, "BENCH-" + i, MODULES[i % MODULES.length],
+                    logged.plusDays(TicketService.SLA_DAYS), logged});
+        }
+        TicketRepository tickets = (TicketRepository) Proxy.newProxyInstance(
+                TicketRepository.class.getClassLoader(), new Class<?>[] {TicketRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findOpenSlaKeys")) {
+                        return rows;
+                    }
+                    if (method.getName().equals("findOpenSlaKeysByIdIn")) {
+                        return List.<Object[]>of(rows.get(42));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        model = new OpenTicketReadModel(tickets, new SimpleMeterRegistry());
+        model.reload();
+
+        // An already-open ticket "reopened": the model replaces it, so its size stays constant across invocations
+        Ticket ticket = new Ticket();
+        Field id = Ticket.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(ticket, 42L);
+        ticket.setTicketId("BENCH-42");
+        ticket.setModule(MODULES[42 % MODULES.length]);
+        ticket.setStatus("Open");
+        ticket.setDateLogged(today);
+        ticket.setSlaDueDate(today.plusDays(TicketService.SLA_DAYS));
+        reopenEvent = new TicketChangeEvent(TicketChangeEvent.Type.REOPENED, List.of(ticket));
+    }
+
+    @Benchmark
+    public List<OpenTicketSummary> summary() {
+        return model.summary(2);
+    }
+
+    @Benchmark
+    public List<OpenTicketDue> dueSoonOneModule() {
+        return model.listByDueDate("FIN", 2, 100);
+    }
+
+    @Benchmark
+    public List<OpenTicketDue> mostOverdueAllModules() {
+        return model.listByDueDate(null, null, 100);
+    }
+
+    // One write: re-reads the ticket (stubbed here) and copies the affected module's arrays
+    @Benchmark
+    public void applyChange() {
+        model.onTicketChange(reopenEvent);
+    }
+}
@@ -0,0 +1,75 @@
+// This file benchmarks SLA bookkeeping: computing it on write and deriving daysToSla on every read.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlaBenchmark {
+
+    // Tickets per operation: one dashboard page vs. a full list
+    @Param({"1000", "100000"})
+    public int tickets;
+
+    private final TicketService service = new TicketService(); // initSla needs no collaborators
+    private List<Ticket> batch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        batch = new ArrayList<>(tickets);
+        for (int i = 0; i < tickets; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTicketId("INC" + i);
+            ticket.setModule("M" + random.nextInt(8));
+            ticket.setDateLogged(today.minusDays(random.nextInt(60)));
+            ticket.setStatus(random.nextInt(4) == 0 ? "Open" : "Closed");
+            service.initSla(ticket);
+            batch.add(ticket);
+        }
+    }
+
+    // Write path: due date, daysToSla snapshot and breach flag (addTicket / import)
+    @Benchmark
+    public void initSla(Blackhole bh) {
+        for (Ticket ticket : batch) {
+            ticket.setBreachedDate(null);
+            service.initSla(ticket);
+            bh.consume(ticket.getBreachedDate());
+        }
+    }
+
+    // Read path: daysToSla is derived from today's date for every serialized ticket
+    @Benchmark
+    public long daysToSla() {
+        long sum = 0;
+        for (Ticket ticket : batch) {
+            sum += ticket.getDaysToSla();
+        }
+        return sum;
+    }
+}
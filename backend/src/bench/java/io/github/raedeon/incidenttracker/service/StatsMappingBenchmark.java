@@ -0,0 +1,60 @@
+// This file benchmarks turning the columnar stats into the per-series { label, count } lists.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.model.StatMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsMappingBenchmark {
+
+    // Buckets returned by sumAllBy: three years monthly, weekly and daily
+    @Param({"36", "157", "1095"})
+    public int buckets;
+
+    private String[] labels;
+    private long[][] counts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate day = LocalDate.now().minusDays(buckets);
+        labels = new String[buckets];
+        counts = new long[StatMetric.values().length][buckets];
+        for (int i = 0; i < buckets; i++) {
+            // Same shape as the cached columnar stats; some buckets are empty
+            labels[i] = day.plusDays(i).toString();
+            counts[0][i] = random.nextInt(50);
+            counts[1][i] = random.nextInt(10);
+            counts[2][i] = random.nextInt(40);
+            counts[3][i] = random.nextInt(3) == 0 ? 0 : random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public void convertAllSeries(Blackhole bh) {
+        for (StatMetric metric : StatMetric.values()) {
+            bh.consume(TicketService.convertToLabelCount(labels, counts[metric.ordinal()]));
+        }
+    }
+}
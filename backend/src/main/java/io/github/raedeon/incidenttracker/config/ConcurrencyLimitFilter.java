@@ -0,0 +1,93 @@
+// This file caps how many API requests run at once, so request concurrency stays in line with the database pool.
+
+package io.github.raedeon.incidenttracker.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Registered after the security filter chain, so unauthenticated requests are rejected without taking a permit.
+// Streaming endpoints (export, events) release their permit once the response goes async.
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Semaphore permits; // null when the limiter is disabled
+    private final long acquireTimeoutMs;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${incident.concurrency.max-in-flight:0}") int maxInFlight,
+                                  @Value("${incident.concurrency.acquire-timeout:PT1S}") Duration acquireTimeout) {
+        this.permits = maxInFlight > 0 ? new Semaphore(maxInFlight, true) : null;
+        this.acquireTimeoutMs = acquireTimeout.toMillis();
+
+        if (permits != null) {
+            Gauge.builder("incident.concurrency.available", permits, Semaphore::availablePermits)
+                    .description("Request permits left before the limiter starts queueing")
+                    .register(meterRegistry);
+            FunctionCounter.builder("incident.concurrency.rejected", rejected, AtomicLong::get)
+                    .description("Requests answered with 503 by the concurrency limiter")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return permits == null || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            // Shed load quickly instead of letting requests pile up waiting for a pooled connection
+            if (rejected.incrementAndGet() % 100 == 1) {
+                log.warn("Concurrency limit reached; {} requests rejected so far", rejected.get());
+            }
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server busy, retry shortly");
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits != null ? permits.availablePermits() : -1;
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+}
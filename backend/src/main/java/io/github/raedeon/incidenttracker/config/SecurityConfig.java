@@ -4,6 +4,7 @@
 package io.github.raedeon.incidenttracker.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,7 +18,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpMethod;
 
-import io.github.raedeon.incidenttracker.repository.UserRepository;
+import io.github.raedeon.incidenttracker.service.UserRoleCache;
 
 import java.util.List;
 
@@ -27,7 +28,11 @@ import java.util.List;
 public class SecurityConfig {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserRoleCache userRoleCache;
+
+    // Port of the separate actuator server; -1 when actuator shares the public port
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -37,6 +42,11 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers("/api/auth/google").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/health/**").permitAll() // Load balancer
+                // Prometheus scraper, only on the internal management port; on the public port it falls to ADMIN below
+                .requestMatchers(request -> request.getLocalPort() == managementPort
+                        && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
@@ -70,11 +80,11 @@ public class SecurityConfig {
             String email = jwt.getClaimAsString("email");
             if (email == null) return List.of();
 
-            // Look up user role from DB
-            var user = userRepository.findByEmail(email).orElse(null);
-            if (user == null) return List.of();
+            // Look up user role, hitting the DB only on a cache miss
+            var role = userRoleCache.getRole(email).orElse(null);
+            if (role == null) return List.of();
 
-            return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+            return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
         });
         return converter;
     }
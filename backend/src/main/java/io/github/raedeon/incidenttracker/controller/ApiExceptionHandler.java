@@ -0,0 +1,34 @@
+// This file maps the exceptions services throw for bad input, missing tickets or lost races to 400, 404 and 409 responses.
+
+package io.github.raedeon.incidenttracker.controller;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.DateTimeException;
+import java.util.NoSuchElementException;
+
+// Services validate with IllegalArgumentException (malformed cursor, unknown format, oversized batch, bad range...)
+// and signal a missing ticket with NoSuchElementException; a batch that lost a race with another write can be retried.
+// The body is an RFC 7807 problem with the message only
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler({IllegalArgumentException.class, DateTimeException.class})
+    public ProblemDetail badRequest(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ProblemDetail notFound(NoSuchElementException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ProblemDetail conflict(ConcurrencyFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
@@ -6,7 +6,9 @@ package io.github.raedeon.incidenttracker.controller;
 import io.github.raedeon.incidenttracker.model.Role;
 import io.github.raedeon.incidenttracker.model.User;
 import io.github.raedeon.incidenttracker.repository.UserRepository;
+import io.github.raedeon.incidenttracker.service.UserRoleCache;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
@@ -18,9 +20,11 @@ import java.util.Map;
 public class GoogleAuthController {
 
     private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
 
-    public GoogleAuthController(UserRepository userRepository) {
+    public GoogleAuthController(UserRepository userRepository, UserRoleCache userRoleCache) {
         this.userRepository = userRepository;
+        this.userRoleCache = userRoleCache;
     }
 
     @PostMapping("/google")
@@ -47,10 +51,24 @@ public class GoogleAuthController {
             .orElse(new User(email, role));
         user.setRole(role); // Ensure correct role
         userRepository.save(user);
+        userRoleCache.invalidate(email); // Next request resolves the saved role
 
         return ResponseEntity.ok(Map.of(
             "email", email,
             "role", role.name()
         ));
     }
+
+    // Counters for the email-to-role cache used when authenticating requests
+    @GetMapping("/role-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> roleCacheStats() {
+        var stats = userRoleCache.stats();
+        return ResponseEntity.ok(Map.of(
+            "lookupsAvoided", stats.hitCount(),
+            "databaseLookups", stats.loadCount(),
+            "hitRate", stats.hitRate(),
+            "evictions", stats.evictionCount()
+        ));
+    }
 }
@@ -1,13 +1,51 @@
 package io.github.raedeon.incidenttracker.controller; // Declares package
 
+import io.github.raedeon.incidenttracker.dto.BatchDeleteRequest; // Body of the batch delete
+import io.github.raedeon.incidenttracker.dto.BatchResult; // Per-item outcome of a batch operation
+import io.github.raedeon.incidenttracker.dto.BatchTicketRequest; // Body of the batch updates
+import io.github.raedeon.incidenttracker.dto.ImportResult; // Summary of a bulk import
+import io.github.raedeon.incidenttracker.dto.OpenTicketDue; // Open ticket listed by SLA due date
+import io.github.raedeon.incidenttracker.dto.OpenTicketModelCheck; // Read model vs database comparison
+import io.github.raedeon.incidenttracker.dto.OpenTicketSummary; // Open/due-soon/breached counts per module
+import io.github.raedeon.incidenttracker.dto.TicketFilter; // Optional list filters
+import io.github.raedeon.incidenttracker.dto.TicketPage; // One page of tickets
+import io.github.raedeon.incidenttracker.dto.IncidentStatsReport; // Windowed stats, optionally per module
+import io.github.raedeon.incidenttracker.dto.TicketLookup; // Live and archived matches for one ticket ID
+import io.github.raedeon.incidenttracker.dto.TicketSearchPage; // One page of search results
+import io.github.raedeon.incidenttracker.dto.TicketView; // Read-only ticket projection
 import io.github.raedeon.incidenttracker.model.Ticket; // Imports the Ticket entity
+import io.github.raedeon.incidenttracker.service.IncidentStatsReportService; // Parallel stats report
+import io.github.raedeon.incidenttracker.service.OpenTicketReadModel; // In-memory open tickets
+import io.github.raedeon.incidenttracker.service.TicketArchiveService; // Ticket archive
+import io.github.raedeon.incidenttracker.service.TicketBatchService; // Multi-ticket operations
+import io.github.raedeon.incidenttracker.service.TicketChangeFeed; // Server-sent change events
+import io.github.raedeon.incidenttracker.service.TicketDataVersion; // Shared data version behind the ETags
+import io.github.raedeon.incidenttracker.service.TicketExportService; // Streaming export
+import io.github.raedeon.incidenttracker.service.TicketImportService; // Bulk import
+import io.github.raedeon.incidenttracker.service.TicketSearchService; // Full-text search
 import io.github.raedeon.incidenttracker.service.TicketService; // Imports the service layer
 import org.springframework.beans.factory.annotation.Autowired; // Enables dependency injection
+import org.springframework.format.annotation.DateTimeFormat; // Parses ISO date query parameters
+import org.springframework.http.CacheControl; // Lets browsers store and revalidate responses
+import org.springframework.http.HttpHeaders; // Header names
+import org.springframework.http.HttpStatus; // 304 for the stats report
+import org.springframework.http.MediaType; // Content type of the streamed listing
+import org.springframework.http.ResponseEntity; // Wraps the streamed listing
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*; // Imports annotations for REST APIs
+import org.springframework.web.context.request.ServletWebRequest; // Evaluates If-None-Match
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter; // Server-sent event stream
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody; // Streams the listing
 
+import jakarta.servlet.http.HttpServletRequest; // Used to build ETags per path and query
+import java.io.IOException; // Thrown when reading the import body fails
+import java.io.InputStream; // Raw request body for streamed imports
+import java.time.LocalDate; // Used for date range filters
+import java.util.zip.GZIPOutputStream; // Optional compression of exports
 import java.util.List; // Used for returning lists
 import java.util.Map; // Used for request body in update methods
+import java.util.function.Predicate; // Decides whether a response may be revalidated
+import java.util.function.Supplier; // Defers building the response body
 
 @RestController // Marks this class as a REST controller
 @RequestMapping("/api/tickets") // Sets base path for all endpoints
@@ -16,11 +54,155 @@ public class TicketController {
     @Autowired // Automatically injects the TicketService bean
     private TicketService service;
 
-    // GET: Fetch all tickets and recalculate daysToSla on-the-fly
+    @Autowired // Handles streamed bulk imports
+    private TicketImportService importService;
+
+    @Autowired // Handles streamed exports
+    private TicketExportService exportService;
+
+    @Autowired // Full-text search over ticket ID, module and breach reason
+    private TicketSearchService searchService;
+
+    @Autowired // Moves long-closed tickets to the archive and finds them there
+    private TicketArchiveService archiveService;
+
+    @Autowired // Windowed, per-module stats computed in parallel under a deadline
+    private IncidentStatsReportService statsReportService;
+
+    @Autowired // Applies one change to many tickets in a single transaction
+    private TicketBatchService batchService;
+
+    @Autowired // Serves the open-ticket dashboard queries from memory
+    private OpenTicketReadModel openTickets;
+
+    @Autowired // Pushes ticket changes to dashboards
+    private TicketChangeFeed changeFeed;
+
+    @Autowired // Bumped on every ticket write; backs the ETags below
+    private TicketDataVersion dataVersion;
+
+    // GET: Fetch all live tickets and recalculate daysToSla on-the-fly; archived tickets are only in the export
+    // and /lookup
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
-    public List<Ticket> getAllTickets() {
-        return service.getAllTickets();
+    public ResponseEntity<List<TicketView>> getAllTickets(HttpServletRequest request) {
+        return conditionalGet(request, service::getAllTickets);
+    }
+
+    // GET: Fetch one keyset page of live tickets, optionally filtered (archived ones are in the export)
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public ResponseEntity<TicketPage> getTicketPage(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean breachedOnly) {
+        TicketFilter filter = new TicketFilter(module, status, from, to, breachedOnly);
+        return conditionalGet(request, () -> service.getTicketPage(filter, cursor, limit));
+    }
+
+    // GET: Search live tickets by free text (ticket ID, module and breach reason), best match first
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public ResponseEntity<TicketSearchPage> searchTickets(
+            HttpServletRequest request,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        return conditionalGet(request, () -> searchService.search(q, offset, limit));
+    }
+
+    // GET: Every ticket with this ID, live or archived
+    @GetMapping("/lookup/{ticketId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public ResponseEntity<TicketLookup> lookupTicket(
+            HttpServletRequest request,
+            @PathVariable String ticketId) {
+        return conditionalGet(request, () -> archiveService.lookup(ticketId));
+    }
+
+    // GET: Open, due-soon and breached ticket counts per module, from the in-memory read model.
+    // Not ETag-cached: the model is updated after commit independently of the data version.
+    @GetMapping("/open/summary")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public List<OpenTicketSummary> getOpenSummary(@RequestParam(defaultValue = "2") int dueWithinDays) {
+        return openTickets.summary(dueWithinDays);
+    }
+
+    // GET: Open tickets by SLA due date, breached first; optionally one module and only those due within N days
+    @GetMapping("/open")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public List<OpenTicketDue> getOpenTickets(
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) Integer dueWithinDays,
+            @RequestParam(defaultValue = "100") int limit) {
+        return openTickets.listByDueDate(module, dueWithinDays, Math.max(1, Math.min(limit, 1000)));
+    }
+
+    // GET: Compare the open-ticket read model with the database (reloads it on a mismatch)
+    @GetMapping("/open/check")
+    @PreAuthorize("hasRole('ADMIN')")
+    public OpenTicketModelCheck checkOpenTickets() {
+        return openTickets.verify();
+    }
+
+    // GET: Stream every matching live ticket as one JSON array without holding the result in memory
+    @GetMapping("/page/stream")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public ResponseEntity<StreamingResponseBody> streamTicketPages(
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean breachedOnly) {
+        TicketFilter filter = new TicketFilter(module, status, from, to, breachedOnly);
+        StreamingResponseBody body = out -> service.streamTickets(filter, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // GET: Export every ticket as CSV or NDJSON, streamed from database cursors and optionally gzip-compressed.
+    // Archived tickets are included unless includeArchived=false.
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "true") boolean includeArchived) {
+        TicketExportService.Format exportFormat;
+        try {
+            exportFormat = TicketExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format: " + format);
+        }
+        String filename = "tickets." + (exportFormat == TicketExportService.Format.CSV ? "csv" : "ndjson") + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : exportFormat == TicketExportService.Format.CSV ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024, true); // syncFlush keeps rows flowing
+                exportService.export(exportFormat, includeArchived, compressed);
+                compressed.finish();
+            } else {
+                exportService.export(exportFormat, includeArchived, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    // GET: Server-sent stream of ticket changes; reconnecting with Last-Event-ID replays what was missed
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
     }
 
     @PostMapping // Handles POST /api/tickets
@@ -29,24 +211,37 @@ public class TicketController {
         return service.addTicket(ticket);
     }
 
+    // POST: Bulk import tickets from a CSV (with header row) or NDJSON body, read as a stream
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ImportResult importTickets(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                      InputStream body) throws IOException {
+        if (MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return importService.importCsv(body);
+        }
+        return importService.importNdjson(body);
+    }
+
     @PutMapping("/close/{ticketId}") // Handles PUT /api/tickets/close/{id}
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public Ticket closeTicket(@PathVariable String ticketId, @RequestBody Map<String, String> body) {
-        return service.closeTicket(ticketId, body.get("closeDate"));
+    public Ticket closeTicket(@PathVariable String ticketId, @RequestParam(required = false) String module,
+                              @RequestBody Map<String, String> body) {
+        return service.closeTicket(ticketId, module, body.get("closeDate"));
     }
 
-    // PUT: Update breach reason for a specific ticket
+    // PUT: Update breach reason for a specific ticket; ?module= picks it when the ID exists in several modules
     @PutMapping("/breach-reason/{ticketId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public Ticket updateBreachReason(@PathVariable String ticketId, @RequestBody String reason) {
-        return service.updateBreachReason(ticketId, reason);
+    public Ticket updateBreachReason(@PathVariable String ticketId, @RequestParam(required = false) String module,
+                                     @RequestBody String reason) {
+        return service.updateBreachReason(ticketId, module, reason);
     }
 
-    // PUT: Reopen a ticket by ID
+    // PUT: Reopen a ticket by ID (and optional ?module=)
     @PutMapping("/reopen/{ticketId}") // Handles PUT /api/tickets/reopen/{id}
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public Ticket reopenTicket(@PathVariable String ticketId) {
-        return service.reopenTicket(ticketId);
+    public Ticket reopenTicket(@PathVariable String ticketId, @RequestParam(required = false) String module) {
+        return service.reopenTicket(ticketId, module);
     }
 
     // DELETE: Delete a ticket by ID and module
@@ -56,10 +251,108 @@ public class TicketController {
         service.deleteTicket(module, ticketId);
     }
 
-    // GET: Fetch incident statistics
+    // PUT: Close many tickets in one transaction; body { "ticketIds": [...], "closeDate": "2025-06-18" }, or
+    // "tickets": [{ "ticketId": ..., "module": ... }] to pick the module of an ID that exists in several
+    @PutMapping("/batch/close")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public BatchResult closeTickets(@RequestBody BatchTicketRequest request) {
+        return batchService.closeTickets(request.keys(), request.closeDate());
+    }
+
+    // PUT: Reopen many tickets in one transaction; body { "ticketIds": [...] }
+    @PutMapping("/batch/reopen")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public BatchResult reopenTickets(@RequestBody BatchTicketRequest request) {
+        return batchService.reopenTickets(request.keys());
+    }
+
+    // PUT: Set the same breach reason on many tickets; body { "ticketIds": [...], "reason": "..." }
+    @PutMapping("/batch/breach-reason")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public BatchResult updateBreachReasons(@RequestBody BatchTicketRequest request) {
+        return batchService.updateBreachReasons(request.keys(), request.reason());
+    }
+
+    // POST: Delete many tickets; body { "tickets": [{ "ticketId": ..., "module": ... }] }
+    @PostMapping("/batch/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public BatchResult deleteTickets(@RequestBody BatchDeleteRequest request) {
+        return batchService.deleteTickets(request.tickets());
+    }
+
+    // GET: Fetch incident statistics; format=columnar returns parallel label/count arrays instead of point lists
     @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
     @GetMapping("/stats")
-    public Map<String, List<Map<String, Object>>> getStats(@RequestParam String range) {
-        return service.getIncidentStats(range);
+    public ResponseEntity<?> getStats(
+            HttpServletRequest request,
+            @RequestParam String range,
+            @RequestParam(defaultValue = "series") String format) {
+        if (format.equalsIgnoreCase("columnar")) {
+            return conditionalGet(request, () -> service.getIncidentStatsColumns(range));
+        }
+        return conditionalGet(request, () -> service.getIncidentStats(range));
+    }
+
+    // GET: All stats series over an optional date window, optionally split by module. Series that miss the request
+    // deadline are left out and the report is flagged partial; partial reports get no ETag so they are never reused.
+    @GetMapping("/stats/report")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'VIEWER')")
+    public ResponseEntity<IncidentStatsReport> getStatsReport(
+            HttpServletRequest request,
+            @RequestParam String range,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean byModule) {
+        return conditionalGet(request, () -> statsReportService.report(range, from, to, byModule),
+                report -> !report.partial());
+    }
+
+    // POST: Rebuild the daily stats rollup from the ticket table
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Integer> rebuildStats() {
+        return Map.of("rows", service.rebuildIncidentStats());
+    }
+
+    // POST: Archive tickets closed beyond the retention period now instead of waiting for the nightly run
+    @PostMapping("/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Integer> archiveClosedTickets() {
+        return Map.of("archived", archiveService.archiveClosedTickets());
+    }
+
+    // GET: Hit/miss counters of the /stats result cache
+    @GetMapping("/stats/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> getStatsCacheStats() {
+        var stats = service.getIncidentStatsCacheStats();
+        return Map.of(
+                "hits", stats.hitCount(),
+                "misses", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictions", stats.evictionCount());
+    }
+
+    // Helper: Answer 304 with a single read of the data version when the client's ETag matches it;
+    // otherwise build the body and tag it with that version.
+    private <T> ResponseEntity<T> conditionalGet(HttpServletRequest request, Supplier<T> body) {
+        return conditionalGet(request, body, result -> true);
+    }
+
+    // Helper: As above; a body that fails the cacheable test (e.g. a partial report) is sent without an ETag and
+    // must not be stored, so a later request rebuilds it rather than revalidating it
+    private <T> ResponseEntity<T> conditionalGet(HttpServletRequest request, Supplier<T> body,
+                                                 Predicate<T> cacheable) {
+        String etag = dataVersion.etag(request.getRequestURI() + "?" + request.getQueryString());
+        // private + no-cache: browsers may keep the body but must revalidate; shared caches (CloudFront) must not store it
+        CacheControl revalidate = CacheControl.noCache().cachePrivate();
+        if (new ServletWebRequest(request).checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(revalidate).build();
+        }
+        T result = body.get();
+        if (!cacheable.test(result)) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(result);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(revalidate).body(result);
     }
 }
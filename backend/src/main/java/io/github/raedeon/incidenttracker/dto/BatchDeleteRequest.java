@@ -0,0 +1,9 @@
+// This file defines the body of the batch delete endpoint.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.List;
+
+// Deletes are keyed by ticket ID and module, like DELETE /api/tickets/{module}/{ticketId}
+public record BatchDeleteRequest(List<TicketKey> tickets) {
+}
@@ -0,0 +1,22 @@
+// This file defines the per-item outcome of a batch ticket operation.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.List;
+
+public record BatchResult(
+        int requested, // Distinct items in the request
+        int changed, // Items updated or deleted
+        List<Item> items // One entry per distinct item, in request order
+) {
+    public enum Outcome {
+        UPDATED,
+        DELETED,
+        UNCHANGED, // Already in the requested state (e.g. closing a ticket closed on that date)
+        NOT_FOUND,
+        AMBIGUOUS // The ticket ID exists in several modules; send it again with its module
+    }
+
+    // ticket is the state after the change (before it, for DELETED), or null when nothing matched
+    public record Item(String ticketId, String module, Outcome outcome, TicketView ticket) {}
+}
@@ -0,0 +1,25 @@
+// This file defines the body of the batch close, reopen and breach-reason endpoints.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BatchTicketRequest(
+        List<String> ticketIds, // Tickets to change; repeated IDs are handled once
+        List<TicketKey> tickets, // Same, with a module for IDs that exist in several modules
+        String closeDate, // Batch close only: ISO date, defaults to today
+        String reason // Batch breach-reason only
+) {
+    // Both lists as keys, ticketIds first
+    public List<TicketKey> keys() {
+        List<TicketKey> keys = new ArrayList<>();
+        if (ticketIds != null) {
+            ticketIds.forEach(id -> keys.add(new TicketKey(id, null)));
+        }
+        if (tickets != null) {
+            keys.addAll(tickets);
+        }
+        return keys;
+    }
+}
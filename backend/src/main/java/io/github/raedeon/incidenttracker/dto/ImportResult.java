@@ -0,0 +1,17 @@
+// This file defines the summary returned by the bulk ticket import.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.List;
+
+public record ImportResult(
+        long rowsRead, // Data rows seen (header and blank lines excluded)
+        long imported, // Rows written to the database
+        long failed, // Rows rejected by validation or as duplicates
+        List<RowError> errors, // First rejected rows, capped to keep the response small
+        long elapsedMs,
+        double rowsPerSecond
+) {
+    // A rejected row and why; line numbers are 1-based and include the CSV header
+    public record RowError(long line, String message) {}
+}
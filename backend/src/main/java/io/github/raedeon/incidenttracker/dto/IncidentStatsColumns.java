@@ -0,0 +1,10 @@
+// This file defines the columnar /stats response: one shared label axis and a parallel count array per series.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.Map;
+
+// series maps each StatMetric label to counts aligned with labels (zeros included), e.g.
+// { "labels": ["2025-01", "2025-02"], "series": { "Raised": [4, 7], "Open": [1, 0], ... } }
+public record IncidentStatsColumns(String[] labels, Map<String, long[]> series) {
+}
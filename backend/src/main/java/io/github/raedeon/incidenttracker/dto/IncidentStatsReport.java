@@ -0,0 +1,15 @@
+// This file defines the /stats/report response: the stats series over one date window, optionally split by module.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Columnar like IncidentStatsColumns: totals maps each series label to counts aligned with labels, and byModule
+// (null unless requested) splits each series by module ("" for tickets without one). When partial is true, the
+// series named in missing ran out of time and are absent from both maps; the rest are complete.
+public record IncidentStatsReport(String range, LocalDate from, LocalDate to, String[] labels,
+                                  Map<String, long[]> totals, Map<String, Map<String, long[]>> byModule,
+                                  boolean partial, List<String> missing) {
+}
@@ -0,0 +1,7 @@
+// This file defines one point of a stats series.
+
+package io.github.raedeon.incidenttracker.dto;
+
+// Serializes as { "label": ..., "count": ... }, the shape the dashboard chart has always consumed
+public record LabelCount(String label, long count) {
+}
@@ -0,0 +1,9 @@
+// This file defines one open ticket as listed by SLA due date from the in-memory read model.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.time.LocalDate;
+
+// daysToSla is negative once the SLA is breached
+public record OpenTicketDue(long id, String ticketId, String module, LocalDate slaDueDate, int daysToSla) {
+}
@@ -0,0 +1,11 @@
+// This file defines the result of comparing the open-ticket read model with the database.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.List;
+
+// mismatchedModules lists modules whose count, ID checksum or due-date checksum differ; the model is reloaded
+// whenever it is not consistent
+public record OpenTicketModelCheck(boolean consistent, List<String> mismatchedModules, long modelTickets,
+                                   long databaseTickets) {
+}
@@ -0,0 +1,7 @@
+// This file defines the open-ticket counts for one module, as served by the in-memory read model.
+
+package io.github.raedeon.incidenttracker.dto;
+
+// dueSoon: SLA due within the requested window and not yet breached; breached: SLA due date already passed
+public record OpenTicketSummary(String module, int open, int dueSoon, int breached) {
+}
@@ -0,0 +1,24 @@
+// This file defines the application event published whenever tickets change.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+
+import java.util.List;
+
+// tickets holds the state after the change (before it, for DELETED and ARCHIVED); IMPORTED carries none and
+// means "reload"
+public record TicketChangeEvent(Type type, List<Ticket> tickets) {
+
+    public enum Type {
+        ADDED,
+        CLOSED,
+        REOPENED,
+        BREACH_REASON,
+        DELETED,
+        BREACHED,
+        IMPORTED,
+        ARCHIVED, // Moved to the archive: gone from lists, still counted in stats and found by lookup
+        RESTORED // Moved back from the archive before a write by ticket ID
+    }
+}
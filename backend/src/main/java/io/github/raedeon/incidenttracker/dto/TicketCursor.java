@@ -0,0 +1,34 @@
+// This file defines the keyset cursor used to page through tickets ordered by (dateLogged, id).
+
+package io.github.raedeon.incidenttracker.dto;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+// Position of the last ticket returned, encoded as "<dateLogged>:<id>" (e.g. "2025-06-18:42")
+public record TicketCursor(LocalDate dateLogged, long id) {
+
+    // Builds the cursor pointing just after the given ticket
+    public static TicketCursor after(Ticket ticket) {
+        return new TicketCursor(ticket.getDateLogged(), ticket.getId());
+    }
+
+    // Parses a cursor string previously produced by encode()
+    public static TicketCursor parse(String value) {
+        int sep = value.lastIndexOf(':');
+        if (sep <= 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+        try {
+            return new TicketCursor(LocalDate.parse(value.substring(0, sep)), Long.parseLong(value.substring(sep + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    public String encode() {
+        return dateLogged + ":" + id;
+    }
+}
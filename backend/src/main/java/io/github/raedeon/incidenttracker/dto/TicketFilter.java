@@ -0,0 +1,15 @@
+// This file defines the optional server-side filters accepted by the paginated ticket listing.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.time.LocalDate;
+
+// Every field is optional; null means "do not filter on this column"
+public record TicketFilter(
+        String module, // Exact module name
+        String status, // Ticket status (e.g., Open, Closed)
+        LocalDate from, // Inclusive lower bound on dateLogged
+        LocalDate to, // Inclusive upper bound on dateLogged
+        boolean breachedOnly // Only tickets that have breached SLA
+) {
+}
@@ -0,0 +1,7 @@
+// This file defines a ticket reference by ticket ID and, optionally, module.
+
+package io.github.raedeon.incidenttracker.dto;
+
+// Ticket IDs are only unique per module; module may be null where the ID alone is enough
+public record TicketKey(String ticketId, String module) {
+}
@@ -0,0 +1,9 @@
+// This file defines the result of looking a ticket ID up in both the live table and the archive.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.List;
+
+// A ticket ID is unique per module only, so either list may hold several tickets
+public record TicketLookup(List<TicketView> active, List<TicketView> archived) {
+}
@@ -0,0 +1,10 @@
+// This file defines one page of the keyset-paginated ticket listing.
+
+package io.github.raedeon.incidenttracker.dto;
+
+
+import java.util.List;
+
+// nextCursor is null when there are no more tickets after this page
+public record TicketPage(List<TicketView> items, String nextCursor) {
+}
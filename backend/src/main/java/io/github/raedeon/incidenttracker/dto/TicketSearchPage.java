@@ -0,0 +1,10 @@
+// This file defines one page of full-text search results.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import java.util.List;
+
+// matches counts the ranked candidates; when truncated, more tickets matched than were ranked (only the newest
+// were) and the query should be narrowed. nextOffset is null on the last page.
+public record TicketSearchPage(List<TicketView> items, long matches, boolean truncated, Integer nextOffset) {
+}
@@ -0,0 +1,20 @@
+// This file captures the ticket fields that decide which stats rollup rows a ticket counts towards.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+
+import java.time.LocalDate;
+
+// Immutable copy taken before and after a mutation, so the rollup can apply the difference
+public record TicketSnapshot(
+        LocalDate dateLogged,
+        String module,
+        String status,
+        LocalDate dayClosed,
+        LocalDate breachedDate
+) {
+    public static TicketSnapshot of(Ticket t) {
+        return new TicketSnapshot(t.getDateLogged(), t.getModule(), t.getStatus(), t.getDayClosed(), t.getBreachedDate());
+    }
+}
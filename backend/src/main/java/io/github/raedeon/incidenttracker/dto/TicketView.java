@@ -0,0 +1,34 @@
+// This file defines the read-only ticket shape returned by list endpoints, serialized the same way as Ticket.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// Built straight from query columns, so listing never instantiates or tracks managed entities
+public record TicketView(
+        Long id,
+        String ticketId,
+        String module,
+        LocalDate dateLogged,
+        int daysToSla,
+        LocalDate slaDueDate,
+        String status,
+        LocalDate dayClosed,
+        LocalDate breachedDate,
+        String breachReason
+) {
+    public TicketView {
+        // Same derivation as Ticket.getDaysToSla: relative to today, falling back to the stored value
+        if (slaDueDate != null) {
+            daysToSla = (int) ChronoUnit.DAYS.between(LocalDate.now(), slaDueDate);
+        }
+    }
+
+    public static TicketView of(Ticket t) {
+        return new TicketView(t.getId(), t.getTicketId(), t.getModule(), t.getDateLogged(), t.getDaysToSla(),
+                t.getSlaDueDate(), t.getStatus(), t.getDayClosed(), t.getBreachedDate(), t.getBreachReason());
+    }
+}
@@ -0,0 +1,44 @@
+// This file maps the ticket archive: closed tickets moved out of the live table once past the retention window.
+
+package io.github.raedeon.incidenttracker.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Read-only: rows are moved in and out with set-based statements in TicketRepository, never through this entity
+@Entity
+@Immutable
+@Table(name = "ticket_archive")
+public class ArchivedTicket {
+
+    @Id
+    private Long id; // Same id the ticket had in the live table
+
+    private String ticketId;
+    private String module;
+    private LocalDate dateLogged;
+    private int daysToSla;
+    private LocalDate slaDueDate;
+    private String status;
+    private LocalDate dayClosed;
+    private LocalDate breachedDate;
+    private String breachReason;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public Long getId() { return id; }
+    public String getTicketId() { return ticketId; }
+    public String getModule() { return module; }
+    public LocalDate getDateLogged() { return dateLogged; }
+    public int getDaysToSla() { return daysToSla; }
+    public LocalDate getSlaDueDate() { return slaDueDate; }
+    public String getStatus() { return status; }
+    public LocalDate getDayClosed() { return dayClosed; }
+    public LocalDate getBreachedDate() { return breachedDate; }
+    public String getBreachReason() { return breachReason; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,36 @@
+// This file defines the daily stats rollup: one ticket count per day, module and metric.
+
+package io.github.raedeon.incidenttracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_ticket_stat",
+       uniqueConstraints = @UniqueConstraint(name = "uq_daily_ticket_stat", columnNames = {"day", "module", "metric"}))
+public class DailyTicketStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day; // Day the ticket counts towards (dateLogged, or dayClosed for CLOSED)
+
+    @Column(nullable = false)
+    private String module; // Ticket module ("" when the ticket has none)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatMetric metric;
+
+    @Column(nullable = false)
+    private long ticketCount; // Number of tickets counted on this day
+
+    public Long getId() { return id; }
+
+    public LocalDate getDay() { return day; }
+    public String getModule() { return module; }
+    public StatMetric getMetric() { return metric; }
+    public long getTicketCount() { return ticketCount; }
+}
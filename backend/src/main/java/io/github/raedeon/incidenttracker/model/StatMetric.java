@@ -0,0 +1,17 @@
+package io.github.raedeon.incidenttracker.model;
+
+// Series tracked in the daily stats rollup, labelled as they appear in /api/tickets/stats
+public enum StatMetric {
+    RAISED("Raised"),
+    OPEN("Open"),
+    CLOSED("Closed"),
+    BREACHED("Breached");
+
+    private final String label;
+
+    StatMetric(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() { return label; }
+}
@@ -4,18 +4,31 @@ package io.github.raedeon.incidenttracker.model; // Declares this file's package
 
 import jakarta.persistence.*; // Imports JPA annotations
 import java.time.LocalDate; // Imports LocalDate for date handling
+import java.time.temporal.ChronoUnit; // Used for calculating days left before SLA
 
 @Entity // Marks this class as a JPA entity to be persisted in the database
+@Table( // Mirrors db/migration, which owns the schema; Hibernate only validates it
+    uniqueConstraints = @UniqueConstraint(name = "uq_ticket_ticket_id_module", columnNames = {"ticketId", "module"}),
+    indexes = { // Indexes backing keyset pagination, the list filters and the stats rebuild
+        @Index(name = "idx_ticket_date_logged_id", columnList = "dateLogged, id"),
+        @Index(name = "idx_ticket_module_status_date", columnList = "module, status, dateLogged"),
+        @Index(name = "idx_ticket_status_date", columnList = "status, dateLogged"),
+        @Index(name = "idx_ticket_breached_date", columnList = "breachedDate"),
+        @Index(name = "idx_ticket_status_sla_due", columnList = "status, slaDueDate"),
+        @Index(name = "idx_ticket_date_logged_module", columnList = "dateLogged, module")
+    })
 public class Ticket {
 
     @Id // Marks this field as the primary key
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-incremented by the database
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq") // Pooled sequence so inserts can be JDBC-batched
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 50)
     private Long id; // Primary key (auto-generated)
 
     private String ticketId; // Custom ticket identifier (not primary key)
     private String module; // Module name
     private LocalDate dateLogged; // Date ticket was logged
-    private int daysToSla; // Days left before SLA breach
+    private int daysToSla; // Days left before SLA breach, as of the last write
+    private LocalDate slaDueDate; // Last day before the SLA is breached
     private String status; // Ticket status (e.g., Open, Closed)
     private LocalDate dayClosed; // When the ticket was closed
     private LocalDate breachedDate; // Date of SLA breach, if any
@@ -34,9 +47,15 @@ public class Ticket {
     public LocalDate getDateLogged() { return dateLogged; }
     public void setDateLogged(LocalDate dateLogged) { this.dateLogged = dateLogged; }
 
-    public int getDaysToSla() { return daysToSla; }
+    // Derived from slaDueDate so reads never need to rewrite the stored value
+    public int getDaysToSla() {
+        return slaDueDate != null ? (int) ChronoUnit.DAYS.between(LocalDate.now(), slaDueDate) : daysToSla;
+    }
     public void setDaysToSla(int daysToSla) { this.daysToSla = daysToSla; }
 
+    public LocalDate getSlaDueDate() { return slaDueDate; }
+    public void setSlaDueDate(LocalDate slaDueDate) { this.slaDueDate = slaDueDate; }
+
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
 
@@ -0,0 +1,43 @@
+// This interface reads the ticket archive; rows are moved in and out by TicketRepository.
+
+package io.github.raedeon.incidenttracker.repository;
+
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import io.github.raedeon.incidenttracker.model.ArchivedTicket;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ArchivedTicketRepository extends JpaRepository<ArchivedTicket, Long> {
+
+    @Query("SELECT new io.github.raedeon.incidenttracker.dto.TicketView(a.id, a.ticketId, a.module, a.dateLogged, " +
+           "a.daysToSla, a.slaDueDate, a.status, a.dayClosed, a.breachedDate, a.breachReason) " +
+           "FROM ArchivedTicket a WHERE a.ticketId = :ticketId")
+    List<TicketView> findViewsByTicketId(@Param("ticketId") String ticketId);
+
+    @Query("SELECT new io.github.raedeon.incidenttracker.dto.TicketView(a.id, a.ticketId, a.module, a.dateLogged, " +
+           "a.daysToSla, a.slaDueDate, a.status, a.dayClosed, a.breachedDate, a.breachReason) " +
+           "FROM ArchivedTicket a WHERE a.ticketId IN :ticketIds")
+    List<TicketView> findViewsByTicketIdIn(@Param("ticketIds") Collection<String> ticketIds);
+
+    @Query("SELECT a.id FROM ArchivedTicket a WHERE a.ticketId = :ticketId AND a.module = :module")
+    List<Long> findIdsByTicketIdAndModule(@Param("ticketId") String ticketId, @Param("module") String module);
+
+    boolean existsByTicketIdAndModule(String ticketId, String module);
+
+    // Same cursor as TicketRepository.streamAllViewsByOrderById, over the archive; used by the export
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new io.github.raedeon.incidenttracker.dto.TicketView(a.id, a.ticketId, a.module, a.dateLogged, " +
+           "a.daysToSla, a.slaDueDate, a.status, a.dayClosed, a.breachedDate, a.breachReason) FROM ArchivedTicket a ORDER BY a.id")
+    Stream<TicketView> streamAllViewsByOrderById();
+}
@@ -0,0 +1,56 @@
+// This interface defines database operations for the daily stats rollup table.
+
+package io.github.raedeon.incidenttracker.repository;
+
+import io.github.raedeon.incidenttracker.model.DailyTicketStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyTicketStatRepository extends JpaRepository<DailyTicketStat, Long> {
+
+    // Rolls daily rows up to the requested TO_CHAR format (day, ISO week or month), computing all four
+    // series in one pass; each row is { label, raised, open, closed, breached }
+    @Query("SELECT TO_CHAR(s.day, ?1), " +
+           "SUM(CASE WHEN s.metric = io.github.raedeon.incidenttracker.model.StatMetric.RAISED THEN s.ticketCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.metric = io.github.raedeon.incidenttracker.model.StatMetric.OPEN THEN s.ticketCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.metric = io.github.raedeon.incidenttracker.model.StatMetric.CLOSED THEN s.ticketCount ELSE 0 END), " +
+           "SUM(CASE WHEN s.metric = io.github.raedeon.incidenttracker.model.StatMetric.BREACHED THEN s.ticketCount ELSE 0 END) " +
+           "FROM DailyTicketStat s GROUP BY 1 ORDER BY 1")
+    List<Object[]> sumAllBy(String format);
+
+    // Adds delta to a single (day, module, metric) counter, creating the row on first use
+    @Modifying
+    @Query(value = "INSERT INTO daily_ticket_stat (day, module, metric, ticket_count) " +
+                   "VALUES (:day, :module, :metric, :delta) " +
+                   "ON CONFLICT (day, module, metric) " +
+                   "DO UPDATE SET ticket_count = daily_ticket_stat.ticket_count + EXCLUDED.ticket_count",
+           nativeQuery = true)
+    void increment(@Param("day") LocalDate day, @Param("module") String module,
+                   @Param("metric") String metric, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_ticket_stat", nativeQuery = true)
+    void deleteAllRows();
+
+    // Recomputes every counter from the live and archived tickets in one set-based statement
+    @Modifying
+    @Query(value = "WITH all_tickets AS (" +
+                   "  SELECT module, status, date_logged, day_closed, breached_date FROM ticket " +
+                   "  UNION ALL SELECT module, status, date_logged, day_closed, breached_date FROM ticket_archive) " +
+                   "INSERT INTO daily_ticket_stat (day, module, metric, ticket_count) " +
+                   "SELECT date_logged, COALESCE(module, ''), 'RAISED', COUNT(*) FROM all_tickets " +
+                   "WHERE date_logged IS NOT NULL GROUP BY 1, 2 " +
+                   "UNION ALL SELECT date_logged, COALESCE(module, ''), 'OPEN', COUNT(*) FROM all_tickets " +
+                   "WHERE status = 'Open' AND date_logged IS NOT NULL GROUP BY 1, 2 " +
+                   "UNION ALL SELECT day_closed, COALESCE(module, ''), 'CLOSED', COUNT(*) FROM all_tickets " +
+                   "WHERE status = 'Closed' AND day_closed IS NOT NULL GROUP BY 1, 2 " +
+                   "UNION ALL SELECT date_logged, COALESCE(module, ''), 'BREACHED', COUNT(*) FROM all_tickets " +
+                   "WHERE breached_date IS NOT NULL AND date_logged IS NOT NULL GROUP BY 1, 2",
+           nativeQuery = true)
+    int insertFromTickets();
+}
@@ -2,18 +2,33 @@
 
 package io.github.raedeon.incidenttracker.repository; // Declares the package location
 
+import io.github.raedeon.incidenttracker.dto.TicketView; // Read-only list projection
 import io.github.raedeon.incidenttracker.model.Ticket; // Imports the Ticket entity
 import org.springframework.data.jpa.repository.JpaRepository; // Enables Spring JPA functionality.
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor; // Enables criteria-based filtering
 import org.springframework.data.jpa.repository.Query; // Imports Query annotation for custom queries
+import org.springframework.data.jpa.repository.QueryHints; // Passes JDBC/Hibernate hints to a query
+import jakarta.persistence.LockModeType; // Row locks for batch updates
+import jakarta.persistence.QueryHint; // A single query hint
+import org.hibernate.jpa.HibernateHints; // Hibernate-specific hint names
+import org.hibernate.jpa.SpecHints; // Standard JPA hint names
+import org.springframework.data.domain.Limit; // Caps the number of rows a query returns
 import org.springframework.data.repository.query.Param; // Imports Param for named parameters in queries
 import org.springframework.transaction.annotation.Transactional; // Imports Transactional for managing transactions
 import org.springframework.data.jpa.repository.Modifying; // Imports Modifying for update/delete operations
+import org.springframework.data.jpa.repository.Lock; // Imports Lock for SELECT ... FOR UPDATE
 
+import java.time.LocalDate; // Used for SLA date parameters
 import java.util.*; // Imports Object array for custom query results
+import java.util.stream.Stream; // Forward-only result streaming
 
-// TicketRepository inherits CRUD operations from JpaRepository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
-    Optional<Ticket> findByTicketId(String ticketId); // Finds a ticket by its custom ID
+// TicketRepository inherits CRUD operations from JpaRepository and criteria queries from JpaSpecificationExecutor
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+    // Columns shared by ticket and ticket_archive, for the statements that move rows between them
+    String MOVED_COLUMNS = "id, ticket_id, module, date_logged, days_to_sla, sla_due_date, status, day_closed, " +
+                           "breached_date, breach_reason";
+
+    List<Ticket> findAllByTicketId(String ticketId); // Finds tickets by their custom ID (unique per module only)
 
     // Custom query to delete tickets by module
     @Transactional
@@ -21,21 +36,158 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("DELETE FROM Ticket t WHERE t.ticketId = :ticketId AND t.module = :module")
     void deleteByTicketIdAndModule(@Param("ticketId") String ticketId, @Param("module") String module);
 
-    // Custom query to count tickets raised
-    @Query("SELECT TO_CHAR(t.dateLogged, ?1), COUNT(t) FROM Ticket t GROUP BY 1 ORDER BY 1")
-    List<Object[]> countRaisedBy(String format);
+    // Lists every ticket as a projection: no entity instances, no persistence-context entries
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new io.github.raedeon.incidenttracker.dto.TicketView(t.id, t.ticketId, t.module, t.dateLogged, " +
+           "t.daysToSla, t.slaDueDate, t.status, t.dayClosed, t.breachedDate, t.breachReason) FROM Ticket t")
+    List<TicketView> findAllViews();
+
+    // Streams every ticket through a forward-only cursor; must be consumed inside a transaction. Rows are
+    // projections, so nothing accumulates in the persistence context.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"), // Rows per round-trip instead of the whole table
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new io.github.raedeon.incidenttracker.dto.TicketView(t.id, t.ticketId, t.module, t.dateLogged, " +
+           "t.daysToSla, t.slaDueDate, t.status, t.dayClosed, t.breachedDate, t.breachReason) FROM Ticket t ORDER BY t.id")
+    Stream<TicketView> streamAllViewsByOrderById();
+
+    // Full-text search over the generated search_vector column; :query is tsquery syntax built by
+    // TicketSearchService. Only the newest :maxCandidates matches (highest ids) are ranked, which bounds the cost
+    // of very broad queries; older matches of a truncated search are never returned. Returns
+    // { id, number of ranked candidates } for one page, best match first.
+    @Query(value = "WITH candidates AS (SELECT id, search_vector FROM ticket " +
+                   "                    WHERE search_vector @@ to_tsquery('simple', :query) " +
+                   "                    ORDER BY id DESC LIMIT :maxCandidates) " +
+                   "SELECT id, COUNT(*) OVER () FROM candidates " +
+                   "ORDER BY ts_rank(search_vector, to_tsquery('simple', :query)) DESC, id DESC " +
+                   "OFFSET :offset LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> searchIds(@Param("query") String query, @Param("maxCandidates") int maxCandidates,
+                             @Param("offset") int offset, @Param("limit") int limit);
+
+    // Loads and row-locks the tickets removed by deleteByTicketIdAndModule, so their stats can be reverted
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Ticket> findByTicketIdAndModule(String ticketId, String module);
 
-    // Custom query to count open tickets
-    @Query("SELECT TO_CHAR(t.dateLogged, ?1), COUNT(t) FROM Ticket t WHERE t.status = 'Open' GROUP BY 1 ORDER BY 1")
-    List<Object[]> countOpenBy(String format);
+    // Returns { ticketId, module } for the given ticket IDs that already exist, live or archived
+    @Query(value = "SELECT ticket_id, module FROM ticket WHERE ticket_id IN (:ticketIds) " +
+                   "UNION ALL SELECT ticket_id, module FROM ticket_archive WHERE ticket_id IN (:ticketIds)",
+           nativeQuery = true)
+    List<Object[]> findExistingKeys(@Param("ticketIds") Collection<String> ticketIds);
 
-    // Custom query to count tickets that are closed
-    @Query("SELECT TO_CHAR(t.dayClosed, ?1), COUNT(t) FROM Ticket t WHERE t.status = 'Closed' GROUP BY 1 ORDER BY 1")
-    List<Object[]> countClosedBy(String format);
+    // Loads and row-locks one batch of tickets closed before the cutoff, skipping rows another transaction holds
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2")) // -2: FOR UPDATE SKIP LOCKED
+    @Query("SELECT t FROM Ticket t WHERE t.status = 'Closed' AND t.dayClosed < :cutoff ORDER BY t.dayClosed, t.id")
+    List<Ticket> lockArchivable(@Param("cutoff") LocalDate cutoff, Limit limit);
 
-    // Custom query to count tickets that have breached SLA or have a breached date
-    @Query("SELECT TO_CHAR(t.dateLogged, ?1), COUNT(t) FROM Ticket t WHERE t.daysToSla < 0 OR t.breachedDate IS NOT NULL GROUP BY 1 ORDER BY 1")
-    List<Object[]> countBreachedBy(String format);
+    // Moves the given tickets to ticket_archive in one statement
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "WITH moved AS (DELETE FROM ticket WHERE id IN (:ids) RETURNING " + MOVED_COLUMNS + ") " +
+                   "INSERT INTO ticket_archive (" + MOVED_COLUMNS + ") SELECT " + MOVED_COLUMNS + " FROM moved",
+           nativeQuery = true)
+    int moveToArchive(@Param("ids") Collection<Long> ids);
+
+    // Moves archived tickets with the given ticket IDs back to the live table, keeping their ids
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "WITH restored AS (DELETE FROM ticket_archive WHERE ticket_id IN (:ticketIds) " +
+                   "                  RETURNING " + MOVED_COLUMNS + ") " +
+                   "INSERT INTO ticket (" + MOVED_COLUMNS + ") SELECT " + MOVED_COLUMNS + " FROM restored",
+           nativeQuery = true)
+    int restoreFromArchive(@Param("ticketIds") Collection<String> ticketIds);
 
+    // Moves the archived tickets with the given ids back to the live table
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "WITH restored AS (DELETE FROM ticket_archive WHERE id IN (:ids) " +
+                   "                  RETURNING " + MOVED_COLUMNS + ") " +
+                   "INSERT INTO ticket (" + MOVED_COLUMNS + ") SELECT " + MOVED_COLUMNS + " FROM restored",
+           nativeQuery = true)
+    int restoreFromArchiveByIds(@Param("ids") Collection<Long> ids);
+
+    List<Ticket> findAllByTicketIdIn(Collection<String> ticketIds); // Reloads tickets after a restore
+
+    // Returns { id, ticketId, module, slaDueDate, dateLogged } for every open ticket, to warm the open-ticket read model
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, t.ticketId, t.module, t.slaDueDate, t.dateLogged FROM Ticket t WHERE t.status = 'Open'")
+    List<Object[]> findOpenSlaKeys();
+
+    // Same columns for those of the given tickets that are open now; lets the read model apply committed state
+    @Query("SELECT t.id, t.ticketId, t.module, t.slaDueDate, t.dateLogged FROM Ticket t " +
+           "WHERE t.id IN :ids AND t.status = 'Open'")
+    List<Object[]> findOpenSlaKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Per-module checksum of the open tickets: { module, count, sum of ids, sum of SLA due dates as epoch days }
+    @Query(value = "SELECT COALESCE(module, ''), COUNT(*), SUM(id), " +
+                   "SUM(COALESCE(sla_due_date, date_logged + :slaDays) - DATE '1970-01-01') " +
+                   "FROM ticket WHERE status = 'Open' GROUP BY 1",
+           nativeQuery = true)
+    List<Object[]> checksumOpenByModule(@Param("slaDays") int slaDays);
+
+    // Groups a batch of tickets by (dateLogged, module) for the stats rollup
+    @Query("SELECT t.dateLogged, t.module, COUNT(t) FROM Ticket t WHERE t.id IN :ids GROUP BY t.dateLogged, t.module")
+    List<Object[]> countByDateLoggedAndModule(@Param("ids") List<Long> ids);
+
+    // Flags up to :limit open, not-yet-flagged tickets whose SLA due date fell within [since, today) and returns
+    // the ids it actually updated. Rows another transaction holds are skipped, and the conditions are re-checked
+    // on the locked rows, so a ticket closed, deleted or flagged concurrently (or by another instance) is not
+    // counted twice.
+    @Transactional
+    @Query(value = "UPDATE ticket SET breached_date = :today WHERE id IN (" +
+                   "  SELECT id FROM ticket WHERE status = 'Open' AND breached_date IS NULL " +
+                   "  AND sla_due_date >= :since AND sla_due_date < :today " +
+                   "  ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<Long> markNewlyBreached(@Param("since") LocalDate since, @Param("today") LocalDate today,
+                                 @Param("limit") int limit);
+
+    // Loads and row-locks the tickets a write is about to change (SELECT ... FOR UPDATE), so the "before" state
+    // used for stats deltas cannot be changed by a concurrent write or the sweeper
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.ticketId IN :ticketIds")
+    List<Ticket> lockByTicketIds(@Param("ticketIds") Collection<String> ticketIds);
+
+    // Batch close in one set-based UPDATE; clears the persistence context, whose copies are now stale
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = 'Closed', t.dayClosed = :dayClosed WHERE t.id IN :ids")
+    int closeAll(@Param("ids") List<Long> ids, @Param("dayClosed") LocalDate dayClosed);
+
+    // Batch reopen; follow with markBreachedIfOverdue, as reopenTicket re-flags tickets already past their SLA
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = 'Open', t.dayClosed = NULL, t.breachedDate = NULL, t.breachReason = NULL " +
+           "WHERE t.id IN :ids")
+    int reopenAll(@Param("ids") List<Long> ids);
+
+    // Flags the given tickets as breached today if their SLA due date has already passed
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.breachedDate = :today WHERE t.id IN :ids AND t.slaDueDate < :today")
+    int markBreachedIfOverdue(@Param("ids") List<Long> ids, @Param("today") LocalDate today);
+
+    // Batch breach-reason update
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.breachReason = :reason WHERE t.id IN :ids")
+    int updateBreachReasonAll(@Param("ids") List<Long> ids, @Param("reason") String reason);
+
+    // Batch delete
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Ticket t WHERE t.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    // Backfills slaDueDate for rows written before it was persisted, one batch at a time
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ticket SET sla_due_date = date_logged + :slaDays WHERE id IN " +
+                   "(SELECT id FROM ticket WHERE sla_due_date IS NULL AND date_logged IS NOT NULL LIMIT :batchSize)",
+           nativeQuery = true)
+    int backfillSlaDueDate(@Param("slaDays") int slaDays, @Param("batchSize") int batchSize);
 
 }
@@ -0,0 +1,51 @@
+// This file builds JPA criteria for the filtered, keyset-paginated ticket listing.
+
+package io.github.raedeon.incidenttracker.repository;
+
+import io.github.raedeon.incidenttracker.dto.TicketCursor;
+import io.github.raedeon.incidenttracker.dto.TicketFilter;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TicketSpecifications {
+
+    private TicketSpecifications() {}
+
+    // Combines the filter and the keyset position into a single WHERE clause
+    public static Specification<Ticket> matching(TicketFilter filter, TicketCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.module() != null) {
+                predicates.add(cb.equal(root.get("module"), filter.module()));
+            }
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.from() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dateLogged"), filter.from()));
+            }
+            if (filter.to() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dateLogged"), filter.to()));
+            }
+            if (filter.breachedOnly()) {
+                predicates.add(cb.isNotNull(root.get("breachedDate")));
+            }
+
+            // Keyset condition: (dateLogged, id) > (cursor.dateLogged, cursor.id)
+            if (after != null) {
+                predicates.add(cb.or(
+                        cb.greaterThan(root.get("dateLogged"), after.dateLogged()),
+                        cb.and(
+                                cb.equal(root.get("dateLogged"), after.dateLogged()),
+                                cb.greaterThan(root.get("id"), after.id()))));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
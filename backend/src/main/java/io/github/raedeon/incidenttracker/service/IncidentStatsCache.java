@@ -0,0 +1,71 @@
+// This file caches /stats results per range and data version, and drops them whenever ticket writes change the rollup.
+
+package io.github.raedeon.incidenttracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.raedeon.incidenttracker.dto.IncidentStatsColumns;
+import io.github.raedeon.incidenttracker.dto.LabelCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class IncidentStatsCache {
+
+    // Both response shapes of one range, computed together so they can never disagree
+    record Entry(IncidentStatsColumns columns, Map<String, List<LabelCount>> series) {}
+
+    // Keyed by data version as well: writes through other instances never invalidate this cache, but they do bump
+    // the shared version, so a body built from a stale entry is never tagged with a newer ETag
+    private record Key(String range, long version) {}
+
+    private final Cache<Key, Entry> cache;
+
+    public IncidentStatsCache(MeterRegistry meterRegistry,
+                              @Value("${incident.stats.cache.max-size:32}") long maxSize,
+                              @Value("${incident.stats.cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "incidentStats");
+    }
+
+    // Returns the cached stats for the range, computing them at most once per data version and invalidation
+    Entry get(String range, long version, Function<String, Entry> loader) {
+        return cache.get(new Key(range, version), key -> loader.apply(key.range()));
+    }
+
+    // Drops every entry now and again once the surrounding transaction commits, so a read that
+    // raced the write cannot leave pre-commit counts in the cache
+    public void invalidate() {
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
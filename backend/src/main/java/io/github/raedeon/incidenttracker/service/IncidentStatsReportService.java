@@ -0,0 +1,198 @@
+// This file computes stats reports over a custom date window, running one rollup query per series in parallel.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.IncidentStatsReport;
+import io.github.raedeon.incidenttracker.model.StatMetric;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.QueryTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Every series has a deadline shared by the whole request. A series that misses it is reported as missing instead
+// of failing the request. Each query also runs with statement_timeout set to the remaining budget, so PostgreSQL
+// cancels it rather than letting it run on after the request has given up. (The JPA query timeout hint is rounded
+// to whole seconds, which is too coarse here.) The pool is bounded: it holds at most `parallelism` database
+// connections, and a full queue counts as a missed deadline.
+@Service
+public class IncidentStatsReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentStatsReportService.class);
+
+    // Bounds for an open-ended window; both are valid PostgreSQL dates
+    private static final LocalDate MIN_DAY = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DAY = LocalDate.of(9999, 12, 31);
+
+    // ?1 is the TO_CHAR format, as in DailyTicketStatRepository.sumAllBy, so GROUP BY 1 matches the select item
+    private static final String TOTALS_QUERY =
+            "SELECT TO_CHAR(s.day, ?1), SUM(s.ticketCount) FROM DailyTicketStat s " +
+            "WHERE s.metric = ?2 AND s.day >= ?3 AND s.day <= ?4 GROUP BY 1 ORDER BY 1";
+    private static final String BY_MODULE_QUERY =
+            "SELECT TO_CHAR(s.day, ?1), s.module, SUM(s.ticketCount) FROM DailyTicketStat s " +
+            "WHERE s.metric = ?2 AND s.day >= ?3 AND s.day <= ?4 GROUP BY 1, 2 ORDER BY 1, 2";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate tx;
+    private final ExecutorService executor;
+    private final long deadlineMs;
+    private final Counter missedSeries;
+
+    public IncidentStatsReportService(PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${incident.stats.report.parallelism:4}") int parallelism,
+                                      @Value("${incident.stats.report.queue-capacity:64}") int queueCapacity,
+                                      @Value("${incident.stats.report.deadline:PT2S}") Duration deadline) {
+        this.deadlineMs = deadline.toMillis();
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setReadOnly(true);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "stats-report-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "statsReport");
+        this.missedSeries = Counter.builder("incident.stats.report.missed")
+                .description("Stats report series left out because they missed the request deadline")
+                .register(meterRegistry);
+    }
+
+    // All four series for the window (either bound may be null), bucketed by range, optionally split by module
+    public IncidentStatsReport report(String range, LocalDate from, LocalDate to, boolean byModule) {
+        String format = TicketService.labelFormat(range.toLowerCase());
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        Map<StatMetric, Future<List<Object[]>>> pending = new EnumMap<>(StatMetric.class);
+        for (StatMetric metric : StatMetric.values()) {
+            try {
+                pending.put(metric, executor.submit(() -> query(format, metric, from, to, byModule, deadline)));
+            } catch (RejectedExecutionException e) {
+                pending.put(metric, null); // Pool saturated: treated like a missed deadline
+            }
+        }
+
+        Map<StatMetric, List<Object[]>> results = new EnumMap<>(StatMetric.class);
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<StatMetric, Future<List<Object[]>>> e : pending.entrySet()) {
+            List<Object[]> rows = await(e.getValue(), deadline);
+            if (rows != null) {
+                results.put(e.getKey(), rows);
+            } else {
+                missing.add(e.getKey().getLabel());
+            }
+        }
+        if (!missing.isEmpty()) {
+            missedSeries.increment(missing.size());
+            log.warn("Stats report for range={} from={} to={} byModule={} is missing {}", range, from, to, byModule, missing);
+        }
+        return assemble(range, from, to, byModule, results, missing);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Helper: One series from the rollup; each row is { label, count } or { label, module, count }
+    private List<Object[]> query(String format, StatMetric metric, LocalDate from, LocalDate to, boolean byModule,
+                                 long deadline) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+            throw new QueryTimeoutException("Deadline passed while queued");
+        }
+        return tx.execute(status -> {
+            // Scoped to this transaction, so the pooled connection goes back with its default timeout
+            entityManager.createNativeQuery("SELECT set_config('statement_timeout', ?1, true)")
+                    .setParameter(1, remainingMs + "ms")
+                    .getSingleResult();
+            return entityManager.createQuery(byModule ? BY_MODULE_QUERY : TOTALS_QUERY, Object[].class)
+                    .setParameter(1, format)
+                    .setParameter(2, metric)
+                    .setParameter(3, from != null ? from : MIN_DAY)
+                    .setParameter(4, to != null ? to : MAX_DAY)
+                    .getResultList();
+        });
+    }
+
+    // Helper: The series rows, or null if they did not arrive in time; other failures propagate
+    private List<Object[]> await(Future<List<Object[]>> future, long deadline) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true); // The statement itself is cancelled by its statement_timeout
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof QueryTimeoutException
+                    || e.getCause() instanceof org.springframework.dao.QueryTimeoutException) {
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Helper: Merge the series onto one label axis, skipping buckets where every series is zero
+    private static IncidentStatsReport assemble(String range, LocalDate from, LocalDate to, boolean byModule,
+                                                Map<StatMetric, List<Object[]>> results, List<String> missing) {
+        int countColumn = byModule ? 2 : 1;
+        SortedSet<String> labelSet = new TreeSet<>();
+        results.values().forEach(rows -> rows.stream()
+                .filter(row -> ((Number) row[countColumn]).longValue() != 0)
+                .forEach(row -> labelSet.add((String) row[0])));
+        String[] labels = labelSet.toArray(String[]::new);
+
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        Map<String, Map<String, long[]>> modules = byModule ? new LinkedHashMap<>() : null;
+        for (Map.Entry<StatMetric, List<Object[]>> e : results.entrySet()) {
+            long[] total = new long[labels.length];
+            Map<String, long[]> perModule = new TreeMap<>();
+            for (Object[] row : e.getValue()) {
+                int i = Arrays.binarySearch(labels, (String) row[0]);
+                if (i < 0) {
+                    continue; // Bucket is zero in every series
+                }
+                long count = ((Number) row[countColumn]).longValue();
+                total[i] += count;
+                if (byModule) {
+                    perModule.computeIfAbsent((String) row[1], m -> new long[labels.length])[i] += count;
+                }
+            }
+            totals.put(e.getKey().getLabel(), total);
+            if (byModule) {
+                modules.put(e.getKey().getLabel(), perModule);
+            }
+        }
+        return new IncidentStatsReport(range.toLowerCase(), from, to, labels, totals, modules, !missing.isEmpty(), missing);
+    }
+}
@@ -0,0 +1,305 @@
+// This file keeps every open ticket in memory, grouped by module and sorted by SLA due date, for the SLA dashboards.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.OpenTicketDue;
+import io.github.raedeon.incidenttracker.dto.OpenTicketModelCheck;
+import io.github.raedeon.incidenttracker.dto.OpenTicketSummary;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Reads never touch the database or take a lock: they work on an immutable snapshot that writers replace.
+// A TicketChangeEvent only says which tickets changed: under the write lock the model re-reads those tickets and
+// takes their current rows, so events that arrive late, twice or out of order, or overlap a reload, still leave
+// each ticket as last committed. The scheduled check compares the model with the database and reloads it on any
+// difference, which also covers writes made by other instances.
+@Component
+public class OpenTicketReadModel {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenTicketReadModel.class);
+
+    // Stands in for the due date of tickets with neither slaDueDate nor dateLogged: sorts last, never breaches
+    private static final int NO_DUE_DATE = Integer.MAX_VALUE;
+
+    // Open tickets of one module as parallel arrays sorted by (due, id); never modified once published
+    private static final class ModuleTickets {
+        static final ModuleTickets EMPTY = new ModuleTickets(new int[0], new long[0], new String[0]);
+
+        final int[] due; // SLA due date as epoch day
+        final long[] ids;
+        final String[] ticketIds;
+
+        ModuleTickets(int[] due, long[] ids, String[] ticketIds) {
+            this.due = due;
+            this.ids = ids;
+            this.ticketIds = ticketIds;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        // Index of the first ticket due on or after the given day (binary search)
+        int firstDueFrom(int epochDay) {
+            int low = 0;
+            int high = due.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (due[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Copy without the removed IDs (sorted) and with the added tickets (sorted by due, id) merged in, in one pass
+        ModuleTickets update(long[] removed, List<Added> added) {
+            int[] newDue = new int[ids.length + added.size()];
+            long[] newIds = new long[newDue.length];
+            String[] newTicketIds = new String[newDue.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < ids.length || j < added.size()) {
+                if (i < ids.length && Arrays.binarySearch(removed, ids[i]) >= 0) {
+                    i++;
+                    continue;
+                }
+                Added a = j < added.size() ? added.get(j) : null;
+                if (a == null || (i < ids.length && (due[i] < a.due() || (due[i] == a.due() && ids[i] < a.id())))) {
+                    newDue[k] = due[i];
+                    newIds[k] = ids[i];
+                    newTicketIds[k++] = ticketIds[i++];
+                } else {
+                    newDue[k] = a.due();
+                    newIds[k] = a.id();
+                    newTicketIds[k++] = a.ticketId();
+                    j++;
+                }
+            }
+            return new ModuleTickets(Arrays.copyOf(newDue, k), Arrays.copyOf(newIds, k), Arrays.copyOf(newTicketIds, k));
+        }
+    }
+
+    // One open ticket entering the model
+    private record Added(long id, String ticketId, int due) {}
+
+    private static final Comparator<Added> BY_DUE_THEN_ID =
+            Comparator.comparingInt(Added::due).thenComparingLong(Added::id);
+
+    private final TicketRepository repo;
+    private final Counter mismatches;
+
+    // Serializes writers; held while re-reading tickets (see application-vthreads.properties)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Module ("" when the ticket has none) -> its open tickets; replaced as a whole on every change
+    private volatile SortedMap<String, ModuleTickets> byModule = Collections.emptySortedMap();
+
+    public OpenTicketReadModel(TicketRepository repo, MeterRegistry meterRegistry) {
+        this.repo = repo;
+        Gauge.builder("incident.openmodel.tickets", this, OpenTicketReadModel::size)
+                .description("Open tickets held by the in-memory read model")
+                .register(meterRegistry);
+        this.mismatches = Counter.builder("incident.openmodel.mismatches")
+                .description("Consistency checks that found the read model out of step with the database")
+                .register(meterRegistry);
+    }
+
+    // Warms the model before the web server accepts requests
+    @PostConstruct
+    public void reload() {
+        writeLock.lock();
+        try {
+            long start = System.nanoTime();
+            Map<String, List<Added>> grouped = new HashMap<>();
+            for (Object[] row : repo.findOpenSlaKeys()) {
+                // Row: { id, ticketId, module, slaDueDate, dateLogged }
+                grouped.computeIfAbsent(moduleKey((String) row[2]), k -> new ArrayList<>())
+                        .add(new Added((Long) row[0], (String) row[1], dueDay((LocalDate) row[3], (LocalDate) row[4])));
+            }
+
+            SortedMap<String, ModuleTickets> loaded = new TreeMap<>();
+            grouped.forEach((module, tickets) -> {
+                tickets.sort(BY_DUE_THEN_ID);
+                loaded.put(module, ModuleTickets.EMPTY.update(new long[0], tickets));
+            });
+            byModule = Collections.unmodifiableSortedMap(loaded);
+            log.info("Loaded {} open tickets into the read model in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Applies committed changes; rolled-back transactions never reach the model
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChange(TicketChangeEvent event) {
+        switch (event.type()) {
+            case IMPORTED -> reload(); // Carries no tickets
+            case BREACHED, BREACH_REASON -> { } // Neither changes which tickets are open or when they are due
+            default -> refresh(event.tickets());
+        }
+    }
+
+    // Per module: open, due within the window (not yet breached) and breached counts, ordered by module
+    public List<OpenTicketSummary> summary(int dueWithinDays) {
+        int today = (int) LocalDate.now().toEpochDay();
+        List<OpenTicketSummary> result = new ArrayList<>();
+        byModule.forEach((module, tickets) -> {
+            int breached = tickets.firstDueFrom(today);
+            int dueSoon = tickets.firstDueFrom(windowEnd(today, dueWithinDays)) - breached;
+            result.add(new OpenTicketSummary(module, tickets.size(), dueSoon, breached));
+        });
+        return result;
+    }
+
+    // Open tickets, earliest due first (breached ones lead); optionally one module and only those due within the window
+    public List<OpenTicketDue> listByDueDate(String module, Integer dueWithinDays, int limit) {
+        LocalDate todayDate = LocalDate.now();
+        int today = (int) todayDate.toEpochDay();
+        int cutoff = dueWithinDays != null ? windowEnd(today, dueWithinDays) : NO_DUE_DATE;
+
+        SortedMap<String, ModuleTickets> snapshot = byModule;
+        Map<String, ModuleTickets> selected = module == null ? snapshot
+                : snapshot.containsKey(module) ? Map.of(module, snapshot.get(module)) : Map.of();
+
+        // Each module's array is already sorted, so only its first `limit` qualifying tickets can make the cut
+        List<OpenTicketDue> result = new ArrayList<>();
+        selected.forEach((name, tickets) -> {
+            int end = Math.min(cutoff == NO_DUE_DATE ? tickets.size() : tickets.firstDueFrom(cutoff), limit);
+            for (int i = 0; i < end; i++) {
+                LocalDate dueDate = tickets.due[i] != NO_DUE_DATE ? LocalDate.ofEpochDay(tickets.due[i]) : null;
+                result.add(new OpenTicketDue(tickets.ids[i], tickets.ticketIds[i], name, dueDate,
+                        dueDate != null ? tickets.due[i] - today : Integer.MAX_VALUE));
+            }
+        });
+        result.sort(Comparator.comparingInt(OpenTicketDue::daysToSla).thenComparingLong(OpenTicketDue::id));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    // Compares per-module count, ID sum and due-date sum with the database, reloading the model on any difference.
+    // A write committed between the two reads can cause a spurious mismatch; the reload then costs one query.
+    @Scheduled(cron = "${incident.open-model.verify-cron:0 */15 * * * *}")
+    public OpenTicketModelCheck verify() {
+        SortedMap<String, ModuleTickets> snapshot = byModule;
+        Set<String> mismatched = new TreeSet<>();
+        Set<String> seen = new HashSet<>();
+        long databaseTickets = 0;
+
+        for (Object[] row : repo.checksumOpenByModule(TicketService.SLA_DAYS)) {
+            // Row: { module, count, sum of ids, sum of due epoch days }
+            String module = (String) row[0];
+            long count = ((Number) row[1]).longValue();
+            long idSum = ((Number) row[2]).longValue();
+            long dueSum = row[3] != null ? ((Number) row[3]).longValue() : 0;
+            databaseTickets += count;
+            seen.add(module);
+
+            ModuleTickets tickets = snapshot.getOrDefault(module, ModuleTickets.EMPTY);
+            long modelIdSum = 0;
+            long modelDueSum = 0;
+            for (int i = 0; i < tickets.size(); i++) {
+                modelIdSum += tickets.ids[i];
+                if (tickets.due[i] != NO_DUE_DATE) {
+                    modelDueSum += tickets.due[i];
+                }
+            }
+            if (tickets.size() != count || modelIdSum != idSum || modelDueSum != dueSum) {
+                mismatched.add(module);
+            }
+        }
+        snapshot.forEach((module, tickets) -> {
+            if (!seen.contains(module) && tickets.size() > 0) {
+                mismatched.add(module);
+            }
+        });
+
+        long modelTickets = snapshot.values().stream().mapToLong(ModuleTickets::size).sum();
+        if (!mismatched.isEmpty()) {
+            mismatches.increment();
+            log.warn("Open-ticket read model differs from the database for modules {} ({} vs {} tickets); reloading",
+                    mismatched, modelTickets, databaseTickets);
+            reload();
+        }
+        return new OpenTicketModelCheck(mismatched.isEmpty(), List.copyOf(mismatched), modelTickets, databaseTickets);
+    }
+
+    public int size() {
+        return byModule.values().stream().mapToInt(ModuleTickets::size).sum();
+    }
+
+    // Helper: Drop the changed tickets from their modules, then re-add those the database has open now. The read
+    // happens under the write lock, so whichever event is applied last sees the latest committed state.
+    private void refresh(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>();
+        Set<String> modules = new HashSet<>();
+        for (Ticket t : tickets) {
+            ids.add(t.getId());
+            modules.add(moduleKey(t.getModule()));
+        }
+        long[] removedIds = ids.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        writeLock.lock();
+        try {
+            Map<String, List<Added>> added = new HashMap<>();
+            for (Object[] row : repo.findOpenSlaKeysByIdIn(ids)) {
+                // Row: { id, ticketId, module, slaDueDate, dateLogged }
+                String module = moduleKey((String) row[2]);
+                modules.add(module);
+                added.computeIfAbsent(module, k -> new ArrayList<>())
+                        .add(new Added((Long) row[0], (String) row[1], dueDay((LocalDate) row[3], (LocalDate) row[4])));
+            }
+
+            SortedMap<String, ModuleTickets> next = new TreeMap<>(byModule);
+            modules.forEach(module -> {
+                List<Added> toAdd = added.getOrDefault(module, new ArrayList<>());
+                toAdd.sort(BY_DUE_THEN_ID);
+                ModuleTickets updated = next.getOrDefault(module, ModuleTickets.EMPTY).update(removedIds, toAdd);
+                if (updated.size() > 0) {
+                    next.put(module, updated);
+                } else {
+                    next.remove(module);
+                }
+            });
+            byModule = Collections.unmodifiableSortedMap(next);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Helper: SLA due date as epoch day; derived from dateLogged for rows the backfill has not reached yet
+    private static int dueDay(LocalDate slaDueDate, LocalDate dateLogged) {
+        if (slaDueDate != null) {
+            return (int) slaDueDate.toEpochDay();
+        }
+        return dateLogged != null ? (int) dateLogged.plusDays(TicketService.SLA_DAYS).toEpochDay() : NO_DUE_DATE;
+    }
+
+    // Helper: First day outside a "due within N days" window starting today
+    private static int windowEnd(int today, int days) {
+        return today + Math.max(0, days);
+    }
+
+    private static String moduleKey(String module) {
+        return module != null ? module : "";
+    }
+}
@@ -0,0 +1,104 @@
+// This file runs the scheduled job that flags open tickets as breached once they pass their SLA due date.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class SlaBreachSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaBreachSweeper.class);
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private StatsRollupService rollup;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Value("${incident.sla.sweep-batch-size:500}")
+    private int batchSize;
+
+    // One sweep at a time; held across JDBC calls (see application-vthreads.properties)
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    // Day of the last completed sweep; tickets due before that day were already handled
+    private LocalDate lastSweepDay;
+
+    // Backfill legacy rows and catch up on anything that breached while the app was down
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        int backfilled = 0;
+        int updated;
+        do {
+            updated = repo.backfillSlaDueDate(TicketService.SLA_DAYS, batchSize);
+            backfilled += updated;
+        } while (updated > 0);
+
+        if (backfilled > 0) {
+            log.info("Backfilled SLA due date for {} tickets", backfilled);
+        }
+        sweep();
+    }
+
+    // Runs just after midnight, when the day's SLA deadlines have passed
+    @Scheduled(cron = "${incident.sla.sweep-cron:0 1 0 * * *}")
+    public void sweep() {
+        sweepLock.lock();
+        try {
+            sweepDueTickets();
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    private void sweepDueTickets() {
+        LocalDate today = LocalDate.now();
+
+        // Only tickets whose due date fell since the previous run can have newly crossed their deadline
+        LocalDate since = lastSweepDay != null ? lastSweepDay : LocalDate.EPOCH;
+
+        int flagged = 0;
+        List<Long> ids;
+        do {
+            // Flagged rows drop out of the query, so each iteration picks up the next batch
+            ids = tx.execute(status -> sweepBatch(since, today));
+            flagged += ids.size();
+        } while (ids.size() == batchSize);
+
+        lastSweepDay = today;
+        if (flagged > 0) {
+            log.info("Flagged {} tickets as SLA breached", flagged);
+        }
+    }
+
+    // Flag one batch and update the stats rollup in the same transaction, counting only the rows actually updated
+    private List<Long> sweepBatch(LocalDate since, LocalDate today) {
+        List<Long> ids = repo.markNewlyBreached(since, today, batchSize);
+        if (!ids.isEmpty()) {
+            rollup.recordBreached(repo.countByDateLoggedAndModule(ids));
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.BREACHED, repo.findAllById(ids)));
+        }
+        return ids;
+    }
+}
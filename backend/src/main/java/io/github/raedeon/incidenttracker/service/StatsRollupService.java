@@ -0,0 +1,135 @@
+// This file maintains the daily stats rollup incrementally as tickets change, and rebuilds it on demand.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketSnapshot;
+import io.github.raedeon.incidenttracker.model.StatMetric;
+import io.github.raedeon.incidenttracker.repository.ArchivedTicketRepository;
+import io.github.raedeon.incidenttracker.repository.DailyTicketStatRepository;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class StatsRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsRollupService.class);
+
+    // Identifies one counter in the rollup table
+    public record StatKey(LocalDate day, String module, StatMetric metric) {}
+
+    @Autowired
+    private DailyTicketStatRepository statRepo;
+
+    @Autowired
+    private TicketRepository ticketRepo;
+
+    @Autowired
+    private ArchivedTicketRepository archiveRepo;
+
+    @Autowired
+    private IncidentStatsCache statsCache;
+
+    @Autowired
+    private TicketDataVersion dataVersion;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Apply the counter changes caused by one ticket going from before to after (null = did not exist)
+    @Transactional
+    public void recordChange(TicketSnapshot before, TicketSnapshot after) {
+        Map<StatKey, Long> deltas = new HashMap<>();
+        addContributions(before, -1, deltas);
+        addContributions(after, 1, deltas);
+        applyDeltas(deltas);
+    }
+
+    // Apply breaches flagged in bulk; each row is { dateLogged, module, count }
+    @Transactional
+    public void recordBreached(List<Object[]> dateModuleCounts) {
+        Map<StatKey, Long> deltas = new HashMap<>();
+        for (Object[] row : dateModuleCounts) {
+            if (row[0] != null) {
+                deltas.merge(new StatKey((LocalDate) row[0], moduleKey((String) row[1]), StatMetric.BREACHED),
+                        (Long) row[2], Long::sum);
+            }
+        }
+        applyDeltas(deltas);
+    }
+
+    // Write accumulated deltas, one upsert per counter that actually changed
+    @Transactional
+    public void applyDeltas(Map<StatKey, Long> deltas) {
+        boolean changed = false;
+        for (Map.Entry<StatKey, Long> e : deltas.entrySet()) {
+            if (e.getValue() != 0) {
+                StatKey key = e.getKey();
+                statRepo.increment(key.day(), key.module(), key.metric().name(), e.getValue());
+                changed = true;
+            }
+        }
+        if (changed) {
+            statsCache.invalidate();
+        }
+    }
+
+    // Add (sign = 1) or remove (sign = -1) the counters a ticket in the given state counts towards
+    public static void addContributions(TicketSnapshot t, long sign, Map<StatKey, Long> deltas) {
+        if (t == null) {
+            return;
+        }
+        String module = moduleKey(t.module());
+
+        if (t.dateLogged() != null) {
+            deltas.merge(new StatKey(t.dateLogged(), module, StatMetric.RAISED), sign, Long::sum);
+            if ("Open".equals(t.status())) {
+                deltas.merge(new StatKey(t.dateLogged(), module, StatMetric.OPEN), sign, Long::sum);
+            }
+            if (t.breachedDate() != null) {
+                deltas.merge(new StatKey(t.dateLogged(), module, StatMetric.BREACHED), sign, Long::sum);
+            }
+        }
+        if ("Closed".equals(t.status()) && t.dayClosed() != null) {
+            deltas.merge(new StatKey(t.dayClosed(), module, StatMetric.CLOSED), sign, Long::sum);
+        }
+    }
+
+    // Recompute the whole rollup from the live and archived tickets; writers (and the archiver) are blocked until
+    // it commits
+    @Transactional
+    public int rebuild() {
+        entityManager.createNativeQuery("LOCK TABLE ticket, ticket_archive IN SHARE MODE").executeUpdate();
+        statRepo.deleteAllRows();
+        int rows = statRepo.insertFromTickets();
+        statsCache.invalidate();
+        dataVersion.bump(); // ETags of /stats responses built from the old counters must not match
+        log.info("Rebuilt daily stats rollup with {} rows", rows);
+        return rows;
+    }
+
+    // Backfill the rollup the first time the app starts against an existing ticket table
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (statRepo.count() == 0 && (ticketRepo.count() > 0 || archiveRepo.count() > 0)) {
+            rebuild();
+        }
+    }
+
+    private static String moduleKey(String module) {
+        return module != null ? module : "";
+    }
+}
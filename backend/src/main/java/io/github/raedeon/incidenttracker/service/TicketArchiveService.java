@@ -0,0 +1,146 @@
+// This file moves tickets closed beyond the retention period into the archive table, and back when they are needed.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.dto.TicketLookup;
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.ArchivedTicketRepository;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Archived tickets keep their ids and still count towards the stats rollup, so moving a ticket in either direction
+// leaves daily_ticket_stat untouched. Writes by ticket ID restore matching archived tickets first, which keeps the
+// hot-table code paths unaware of the archive.
+@Service
+public class TicketArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketArchiveService.class);
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private ArchivedTicketRepository archiveRepo;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    // How long a ticket stays in the live table after it is closed
+    @Value("${incident.archive.retention:P1Y}")
+    private Period retention;
+
+    @Value("${incident.archive.batch-size:1000}")
+    private int batchSize;
+
+    // One archive run at a time; held across JDBC calls (see application-vthreads.properties)
+    private final ReentrantLock archiveLock = new ReentrantLock();
+
+    // Runs nightly, after the SLA sweep; returns the number of tickets moved
+    @Scheduled(cron = "${incident.archive.cron:0 30 1 * * *}")
+    public int archiveClosedTickets() {
+        archiveLock.lock();
+        try {
+            LocalDate cutoff = LocalDate.now().minus(retention);
+            int archived = 0;
+            int batch;
+            do {
+                // One short transaction per batch; moved rows drop out of the query
+                batch = tx.execute(status -> archiveBatch(cutoff));
+                archived += batch;
+            } while (batch == batchSize);
+
+            if (archived > 0) {
+                log.info("Archived {} tickets closed before {}", archived, cutoff);
+            }
+            return archived;
+        } finally {
+            archiveLock.unlock();
+        }
+    }
+
+    // Moves archived tickets with these IDs back to the live table; joins the caller's transaction, so a write that
+    // fails afterwards leaves them archived
+    @Transactional
+    public int restore(Collection<String> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+        int restored = repo.restoreFromArchive(ticketIds);
+        if (restored > 0) {
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.RESTORED, repo.findAllByTicketIdIn(ticketIds)));
+            log.info("Restored {} archived tickets", restored);
+        }
+        return restored;
+    }
+
+    // Same as restore(ticketIds) for one ticket, limited to one module when it is given
+    @Transactional
+    public int restore(String ticketId, String module) {
+        if (module == null) {
+            return restore(List.of(ticketId));
+        }
+        return restoreByIds(archiveRepo.findIdsByTicketIdAndModule(ticketId, module)).size();
+    }
+
+    // Moves the archived tickets with these ids back and returns them as live tickets; callers that only want to
+    // restore what they are about to modify pick the ids from findArchived first
+    @Transactional
+    public List<Ticket> restoreByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repo.restoreFromArchiveByIds(ids);
+        List<Ticket> restored = repo.findAllById(ids);
+        if (!restored.isEmpty()) {
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.RESTORED, restored));
+            log.info("Restored {} archived tickets", restored.size());
+        }
+        return restored;
+    }
+
+    // Archived tickets with any of these IDs, read without moving them
+    public List<TicketView> findArchived(Collection<String> ticketIds) {
+        return archiveRepo.findViewsByTicketIdIn(ticketIds);
+    }
+
+    // Finds a ticket ID in both the live table and the archive
+    @Transactional(readOnly = true)
+    public TicketLookup lookup(String ticketId) {
+        List<TicketView> active = repo.findAllByTicketId(ticketId).stream().map(TicketView::of).toList();
+        return new TicketLookup(active, archiveRepo.findViewsByTicketId(ticketId));
+    }
+
+    public boolean isArchived(String ticketId, String module) {
+        return archiveRepo.existsByTicketIdAndModule(ticketId, module);
+    }
+
+    // Lock a batch (skipping rows a writer holds; the next run gets them), move it, and announce it
+    private int archiveBatch(LocalDate cutoff) {
+        List<Ticket> tickets = repo.lockArchivable(cutoff, Limit.of(batchSize));
+        if (!tickets.isEmpty()) {
+            repo.moveToArchive(tickets.stream().map(Ticket::getId).toList());
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.ARCHIVED, tickets));
+        }
+        return tickets.size();
+    }
+}
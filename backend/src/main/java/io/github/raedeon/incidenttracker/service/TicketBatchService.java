@@ -0,0 +1,230 @@
+// This file applies close, reopen, breach-reason and delete to many tickets at once with set-based statements.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.BatchResult;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.dto.TicketKey;
+import io.github.raedeon.incidenttracker.dto.TicketSnapshot;
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Each operation is one transaction: lock the rows (one SELECT), change them (set-based UPDATE/DELETE), then apply
+// the stats deltas and publish one change event for the whole batch. Archived tickets take part in matching but are
+// only moved back to the live table when the operation actually changes them.
+@Service
+public class TicketBatchService {
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private StatsRollupService rollup;
+
+    @Autowired
+    private TicketArchiveService archive;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Value("${incident.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Transactional
+    public BatchResult closeTickets(List<TicketKey> keys, String closeDateStr) {
+        LocalDate closeDate = closeDateStr != null ? LocalDate.parse(closeDateStr) : LocalDate.now();
+        // Like closeTicket, a closed ticket with another close date takes the new one
+        return update(keys, t -> "Closed".equals(t.status()) && closeDate.equals(t.dayClosed()),
+                ids -> repo.closeAll(ids, closeDate),
+                t -> {
+                    t.setStatus("Closed");
+                    t.setDayClosed(closeDate);
+                },
+                TicketChangeEvent.Type.CLOSED);
+    }
+
+    @Transactional
+    public BatchResult reopenTickets(List<TicketKey> keys) {
+        LocalDate today = LocalDate.now();
+        return update(keys, t -> "Open".equals(t.status()),
+                ids -> {
+                    int reopened = repo.reopenAll(ids);
+                    repo.markBreachedIfOverdue(ids, today);
+                    return reopened;
+                },
+                t -> {
+                    t.setStatus("Open");
+                    t.setDayClosed(null);
+                    t.setBreachReason(null);
+                    t.setBreachedDate(t.getSlaDueDate() != null && t.getSlaDueDate().isBefore(today) ? today : null);
+                },
+                TicketChangeEvent.Type.REOPENED);
+    }
+
+    @Transactional
+    public BatchResult updateBreachReasons(List<TicketKey> keys, String reason) {
+        String cleaned = TicketService.cleanBreachReason(reason);
+        return update(keys, t -> Objects.equals(t.breachReason(), cleaned),
+                ids -> repo.updateBreachReasonAll(ids, cleaned),
+                t -> t.setBreachReason(cleaned),
+                TicketChangeEvent.Type.BREACH_REASON);
+    }
+
+    @Transactional
+    public BatchResult deleteTickets(List<TicketKey> keys) {
+        List<TicketKey> distinct = distinct(keys);
+        Map<String, List<Candidate>> byTicketId = candidates(distinct);
+
+        List<BatchResult.Item> items = new ArrayList<>();
+        List<Candidate> matched = new ArrayList<>();
+        for (TicketKey key : distinct) {
+            // Like the single delete, every row with this ticket ID and module goes
+            List<Candidate> matches = byTicketId.getOrDefault(key.ticketId(), List.of()).stream()
+                    .filter(c -> Objects.equals(c.view().module(), key.module()))
+                    .toList();
+            if (matches.isEmpty()) {
+                items.add(new BatchResult.Item(key.ticketId(), key.module(), BatchResult.Outcome.NOT_FOUND, null));
+                continue;
+            }
+            matched.addAll(matches);
+            items.add(new BatchResult.Item(key.ticketId(), key.module(), BatchResult.Outcome.DELETED,
+                    matches.get(0).view()));
+        }
+
+        List<Ticket> deleted = live(matched);
+        if (!deleted.isEmpty()) {
+            repo.deleteAllByIds(deleted.stream().map(Ticket::getId).toList());
+            Map<StatsRollupService.StatKey, Long> deltas = new HashMap<>();
+            deleted.forEach(t -> StatsRollupService.addContributions(TicketSnapshot.of(t), -1, deltas));
+            rollup.applyDeltas(deltas);
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.DELETED, deleted));
+        }
+        return new BatchResult(distinct.size(), (int) items.stream()
+                .filter(item -> item.outcome() == BatchResult.Outcome.DELETED).count(), items);
+    }
+
+    // A ticket an operation may apply to: a locked live ticket, or an archived one not yet moved back
+    private record Candidate(Ticket live, TicketView archived) {
+        TicketView view() {
+            return live != null ? TicketView.of(live) : archived;
+        }
+    }
+
+    // Helper: Shared flow for the update operations. unchanged marks tickets already in the target state,
+    // bulkUpdate runs the set-based statement and mirror applies the same change to the loaded copies
+    // (detached by the statement) so deltas, results and the event reflect the new state.
+    private BatchResult update(List<TicketKey> keys, Predicate<TicketView> unchanged,
+                               Function<List<Long>, Integer> bulkUpdate, Consumer<Ticket> mirror,
+                               TicketChangeEvent.Type eventType) {
+        List<TicketKey> distinct = distinct(keys);
+        Map<String, List<Candidate>> byTicketId = candidates(distinct);
+
+        List<BatchResult.Item> items = new ArrayList<>();
+        List<Candidate> matched = new ArrayList<>();
+        for (TicketKey key : distinct) {
+            List<Candidate> matches = matching(byTicketId, key);
+            if (matches.isEmpty()) {
+                items.add(new BatchResult.Item(key.ticketId(), key.module(), BatchResult.Outcome.NOT_FOUND, null));
+            } else if (matches.size() > 1) {
+                items.add(new BatchResult.Item(key.ticketId(), key.module(), BatchResult.Outcome.AMBIGUOUS, null));
+            } else if (unchanged.test(matches.get(0).view())) {
+                TicketView t = matches.get(0).view();
+                items.add(new BatchResult.Item(key.ticketId(), t.module(), BatchResult.Outcome.UNCHANGED, t));
+            } else {
+                matched.add(matches.get(0));
+                items.add(null); // Filled in below, once the new state is known
+            }
+        }
+
+        List<Ticket> targets = live(matched);
+        if (!targets.isEmpty()) {
+            List<TicketSnapshot> before = targets.stream().map(TicketSnapshot::of).toList();
+            bulkUpdate.apply(targets.stream().map(Ticket::getId).toList());
+
+            Map<StatsRollupService.StatKey, Long> deltas = new HashMap<>();
+            for (int i = 0; i < targets.size(); i++) {
+                Ticket t = targets.get(i);
+                mirror.accept(t);
+                StatsRollupService.addContributions(before.get(i), -1, deltas);
+                StatsRollupService.addContributions(TicketSnapshot.of(t), 1, deltas);
+            }
+            rollup.applyDeltas(deltas);
+            events.publishEvent(new TicketChangeEvent(eventType, targets));
+        }
+
+        Iterator<Ticket> updated = targets.iterator();
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == null) {
+                Ticket t = updated.next();
+                items.set(i, new BatchResult.Item(t.getTicketId(), t.getModule(), BatchResult.Outcome.UPDATED, TicketView.of(t)));
+            }
+        }
+        return new BatchResult(distinct.size(), targets.size(), items);
+    }
+
+    // Helper: Drop repeated items (keeping request order) and enforce the batch size limit
+    private <T> List<T> distinct(List<T> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one ticket is required");
+        }
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<>(items));
+        if (distinct.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " tickets per batch");
+        }
+        return distinct;
+    }
+
+    // Helper: Lock every live ticket with one of the requested IDs and read the archived ones, grouped by ticket ID
+    private Map<String, List<Candidate>> candidates(List<TicketKey> keys) {
+        Set<String> ticketIds = new LinkedHashSet<>();
+        keys.forEach(key -> ticketIds.add(key.ticketId()));
+
+        Map<String, List<Candidate>> byTicketId = new HashMap<>();
+        for (Ticket t : repo.lockByTicketIds(ticketIds)) {
+            byTicketId.computeIfAbsent(t.getTicketId(), k -> new ArrayList<>()).add(new Candidate(t, null));
+        }
+        for (TicketView t : archive.findArchived(ticketIds)) {
+            byTicketId.computeIfAbsent(t.ticketId(), k -> new ArrayList<>()).add(new Candidate(null, t));
+        }
+        return byTicketId;
+    }
+
+    // Helper: The candidates a key refers to; without a module, every module's ticket with that ID
+    private static List<Candidate> matching(Map<String, List<Candidate>> byTicketId, TicketKey key) {
+        return byTicketId.getOrDefault(key.ticketId(), List.of()).stream()
+                .filter(c -> key.module() == null || Objects.equals(c.view().module(), key.module()))
+                .toList();
+    }
+
+    // Helper: The live tickets for the given candidates, in order, moving archived ones back to the live table first
+    private List<Ticket> live(List<Candidate> candidates) {
+        List<Long> archivedIds = candidates.stream()
+                .filter(c -> c.live() == null)
+                .map(c -> c.archived().id())
+                .toList();
+        if (archivedIds.isEmpty()) {
+            return candidates.stream().map(Candidate::live).toList();
+        }
+
+        Map<Long, Ticket> restored = new HashMap<>();
+        archive.restoreByIds(archivedIds).forEach(t -> restored.put(t.getId(), t));
+        if (restored.size() != archivedIds.size()) {
+            // Another transaction restored or deleted one of them after it was read
+            throw new ConcurrencyFailureException("Archived tickets changed during the batch; retry it");
+        }
+        return candidates.stream().map(c -> c.live() != null ? c.live() : restored.get(c.archived().id())).toList();
+    }
+}
@@ -0,0 +1,286 @@
+// This file fans committed ticket changes out to server-sent event subscribers, with resumable event IDs.
+
+package io.github.raedeon.incidenttracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TicketChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketChangeFeed.class);
+
+    // One serialized change; the JSON is built once and shared by every subscriber
+    private record Entry(long id, String json) {}
+
+    // Queued in place of an entry to keep idle connections open through proxies
+    private static final Entry HEARTBEAT = new Entry(-1, null);
+
+    private final ObjectMapper objectMapper;
+    private final int historySize;
+    private final int clientBufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+
+    // Recent entries for Last-Event-ID replay, oldest first; guarded by "this"
+    private final ArrayDeque<Entry> history = new ArrayDeque<>();
+
+    // IDs continue from the startup time, so an ID from before a restart never matches a new event
+    private long lastId = System.currentTimeMillis();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Grows past the core size instead of queueing, so a client whose socket stops draining holds only its own
+    // thread and delays nobody else
+    private final ThreadPoolExecutor sender;
+
+    public TicketChangeFeed(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${incident.events.history-size:1000}") int historySize,
+                            @Value("${incident.events.client-buffer:256}") int clientBufferSize,
+                            @Value("${incident.events.timeout:PT30M}") Duration timeout,
+                            @Value("${incident.events.sender-threads:4}") int senderThreads,
+                            @Value("${incident.events.max-sender-threads:64}") int maxSenderThreads,
+                            @Value("${incident.events.send-timeout:PT10S}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.historySize = historySize;
+        this.clientBufferSize = clientBufferSize;
+        this.timeoutMs = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+                    Thread t = new Thread(r, "ticket-feed-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        Gauge.builder("incident.events.subscribers", subscribers, Set::size)
+                .description("Open /api/tickets/events streams")
+                .register(meterRegistry);
+        Gauge.builder("incident.events.dropped", dropped, AtomicLong::get)
+                .description("Streams closed because the client fell behind or stopped reading")
+                .register(meterRegistry);
+    }
+
+    // Only committed changes are published; changes made outside a transaction are published immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChange(TicketChangeEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(Map.of("type", event.type(), "tickets", event.tickets()));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize ticket change event", e);
+            return;
+        }
+
+        synchronized (this) {
+            Entry entry = new Entry(++lastId, json);
+            history.addLast(entry);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(s -> s.offer(entry));
+        }
+    }
+
+    // Opens a stream; with lastEventId, missed entries are replayed or the client is told to resync
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            // Registering and replaying under the same lock as publishing means no entry is missed or duplicated.
+            // A backlog larger than the buffer could never be replayed, so that client resyncs as well.
+            List<Entry> backlog = lastEventId != null ? backlogAfter(lastEventId) : List.of();
+            if (backlog == null || backlog.size() > clientBufferSize) {
+                subscriber.resyncId = lastId;
+            } else {
+                backlog.forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    // Sends a comment line to every subscriber so proxies do not close idle streams
+    @Scheduled(fixedDelayString = "${incident.events.heartbeat-ms:20000}")
+    public void heartbeat() {
+        subscribers.forEach(s -> s.offer(HEARTBEAT));
+    }
+
+    // Drops clients whose current send has been blocked longer than the send timeout; their thread is released
+    // once the container's write timeout fails the send, and they resume from their last event ID on reconnect
+    @Scheduled(fixedDelayString = "${incident.events.stall-check-ms:5000}")
+    public void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber s : subscribers) {
+            long started = s.sendStartedNanos;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                log.info("Dropping an event stream whose client stopped reading");
+                s.drop();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(s -> s.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    // Helper: Entries after the given ID, or null when it is unknown or already evicted from history
+    private List<Entry> backlogAfter(String lastEventId) {
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (after == lastId) {
+            return List.of();
+        }
+        if (history.isEmpty() || after < history.peekFirst().id() - 1 || after > lastId) {
+            return null;
+        }
+        List<Entry> backlog = new ArrayList<>();
+        for (Entry entry : history) {
+            if (entry.id() > after) {
+                backlog.add(entry);
+            }
+        }
+        return backlog;
+    }
+
+    // One connected client with its own bounded buffer; a client that falls behind is disconnected
+    // and can resume from its last event ID
+    private class Subscriber {
+        final SseEmitter emitter;
+        final Queue<Entry> buffer = new ArrayBlockingQueue<>(clientBufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile long resyncId = -1; // When set, a resync event with this ID is sent before anything else
+        volatile boolean closing; // Set by drop(); the drain completes the emitter instead of sending more
+        volatile long sendStartedNanos; // Start of the send in progress, 0 when none
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Entry entry) {
+            if (closing) {
+                return;
+            }
+            if (!buffer.offer(entry)) {
+                if (entry != HEARTBEAT) { // A full buffer needs no keep-alive
+                    drop();
+                }
+                return;
+            }
+            schedule();
+        }
+
+        // Stops delivery. The emitter is completed by the drain, never here: completing waits for a send in
+        // progress, and offer() runs while the publisher holds the feed lock.
+        void drop() {
+            if (!closing) {
+                closing = true;
+                dropped.incrementAndGet();
+                subscribers.remove(this);
+                schedule();
+            }
+        }
+
+        // At most one drain per subscriber runs at a time, so events are sent in order
+        void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Every sender thread is busy with a stalled client; this one reconnects and resumes later
+                    draining.set(false);
+                    closing = true;
+                    subscribers.remove(this);
+                    emitter.complete();
+                }
+            }
+        }
+
+        void drain() {
+            try {
+                if (resyncId >= 0 && !closing) {
+                    send(SseEmitter.event().name("resync").id(Long.toString(resyncId)).data("{}"));
+                    resyncId = -1;
+                }
+                Entry entry;
+                while (!closing && (entry = buffer.poll()) != null) {
+                    if (entry == HEARTBEAT) {
+                        send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        send(SseEmitter.event().name("ticket").id(Long.toString(entry.id())).data(entry.json()));
+                    }
+                }
+                if (closing) {
+                    buffer.clear();
+                    emitter.complete();
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this); // Client went away
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (closing || !buffer.isEmpty()) {
+                schedule(); // Entries offered, or a drop requested, while the flag was still set
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedNanos = 0;
+            }
+        }
+    }
+}
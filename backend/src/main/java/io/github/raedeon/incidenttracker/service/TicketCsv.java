@@ -0,0 +1,103 @@
+// This file reads and writes the CSV lines used by the bulk import and export.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 handling: comma-separated, optional double quotes, "" as an escaped quote
+final class TicketCsv {
+
+    // Column names understood in the CSV header; only ticketId and module are required
+    static final List<String> COLUMNS = List.of("ticketId", "module", "dateLogged", "status", "dayClosed", "breachReason");
+
+    // Columns written by the export; the import accepts this layout and ignores the extra columns
+    static final List<String> EXPORT_COLUMNS = List.of("id", "ticketId", "module", "dateLogged", "slaDueDate",
+            "daysToSla", "status", "dayClosed", "breachedDate", "breachReason");
+
+    private TicketCsv() {}
+
+    // Writes one ticket in EXPORT_COLUMNS order, without the line break
+    static void writeRow(Appendable out, TicketView t) throws IOException {
+        appendField(out, t.id());
+        out.append(',');
+        appendField(out, t.ticketId());
+        out.append(',');
+        appendField(out, t.module());
+        out.append(',');
+        appendField(out, t.dateLogged());
+        out.append(',');
+        appendField(out, t.slaDueDate());
+        out.append(',');
+        appendField(out, t.daysToSla());
+        out.append(',');
+        appendField(out, t.status());
+        out.append(',');
+        appendField(out, t.dayClosed());
+        out.append(',');
+        appendField(out, t.breachedDate());
+        out.append(',');
+        appendField(out, t.breachReason());
+    }
+
+    // Nulls become empty fields; values containing commas, quotes or line breaks are quoted
+    private static void appendField(Appendable out, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            out.append(text);
+            return;
+        }
+        out.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    // True if the line has an odd number of quote characters, so it opens a quoted field that continues on the
+    // next line (or closes one left open by the line before); escaped quotes come in pairs and never count
+    static boolean togglesQuote(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 != 0;
+    }
+
+    // Splits one CSV record into fields; quoted fields may contain commas and line breaks
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -0,0 +1,46 @@
+// This file tracks the version of ticket data so unchanged GET responses can be answered with 304.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+// The version is a row in the database (ticket_data_version), not a counter in this process, so every instance
+// behind a load balancer issues the same ETag for the same data and sees writes made through the others.
+@Component
+public class TicketDataVersion {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    // Bumped inside the write's transaction, just before it commits: the new version becomes visible together with
+    // the data, and the row lock is held only for the commit. Writes outside a transaction bump it on their own.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTicketChange(TicketChangeEvent event) {
+        bump();
+    }
+
+    public void bump() {
+        jdbc.update("UPDATE ticket_data_version SET version = version + 1");
+    }
+
+    // Read before the data it tags, so a write that commits in between can only make the tag older than the body
+    // (costing one extra 200), never newer
+    public long current() {
+        return jdbc.queryForObject("SELECT version FROM ticket_data_version", Long.class);
+    }
+
+    // Strong ETag for one resource variant (path and query). daysToSla is derived from today's
+    // date, so the day is part of the tag as well.
+    public String etag(String variant) {
+        return "\"" + Long.toHexString(current())
+                + "-" + Long.toHexString(LocalDate.now().toEpochDay())
+                + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+}
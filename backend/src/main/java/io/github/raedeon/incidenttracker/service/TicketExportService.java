@@ -0,0 +1,126 @@
+// This file streams every ticket to CSV or NDJSON straight from database cursors, using constant memory.
+
+package io.github.raedeon.incidenttracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import io.github.raedeon.incidenttracker.repository.ArchivedTicketRepository;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+// Live and archived tickets are read through two id-ordered cursors and merged, so the export lists every ticket
+// once, in id order, whichever table it is in.
+@Service
+public class TicketExportService {
+
+    private static final int FLUSH_EVERY = 1000; // Rows written between flushes to the client
+
+    public enum Format { CSV, NDJSON }
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private ArchivedTicketRepository archiveRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // The read-only transaction keeps the cursors open while rows are written out
+    @Transactional(readOnly = true)
+    public void export(Format format, boolean includeArchived, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        try (Stream<TicketView> live = repo.streamAllViewsByOrderById();
+             Stream<TicketView> archived = includeArchived ? archiveRepo.streamAllViewsByOrderById() : Stream.empty()) {
+            Iterator<TicketView> tickets = new MergedById(live.iterator(), archived.iterator());
+            switch (format) {
+                case CSV -> writeCsv(tickets, writer);
+                case NDJSON -> writeNdjson(tickets, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    // Helper: Header row, then one row per ticket
+    private void writeCsv(Iterator<TicketView> tickets, Writer writer) throws IOException {
+        writer.write(String.join(",", TicketCsv.EXPORT_COLUMNS));
+        writer.write('\n');
+        writer.flush(); // Send the header immediately so the client sees progress
+
+        long rows = 0;
+        while (tickets.hasNext()) {
+            TicketCsv.writeRow(writer, tickets.next());
+            writer.write('\n');
+            if (++rows % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    // Helper: One JSON object per line
+    private void writeNdjson(Iterator<TicketView> tickets, Writer writer) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null); // The newline is the only separator between rows
+
+        long rows = 0;
+        while (tickets.hasNext()) {
+            json.writeObject(tickets.next());
+            json.writeRaw('\n');
+            if (++rows == 1 || rows % FLUSH_EVERY == 0) {
+                json.flush(); // Also flushes the writer; the first row goes out immediately
+            }
+        }
+        json.flush();
+    }
+
+    // Merges two iterators that are each ordered by id; a ticket is in exactly one of the tables
+    private static final class MergedById implements Iterator<TicketView> {
+
+        private final Iterator<TicketView> first;
+        private final Iterator<TicketView> second;
+        private TicketView nextFirst;
+        private TicketView nextSecond;
+
+        MergedById(Iterator<TicketView> first, Iterator<TicketView> second) {
+            this.first = first;
+            this.second = second;
+            this.nextFirst = first.hasNext() ? first.next() : null;
+            this.nextSecond = second.hasNext() ? second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextFirst != null || nextSecond != null;
+        }
+
+        @Override
+        public TicketView next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextSecond == null || (nextFirst != null && nextFirst.id() <= nextSecond.id())) {
+                TicketView t = nextFirst;
+                nextFirst = first.hasNext() ? first.next() : null;
+                return t;
+            }
+            TicketView t = nextSecond;
+            nextSecond = second.hasNext() ? second.next() : null;
+            return t;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+// This file bulk-imports tickets from streamed CSV or NDJSON bodies, writing them in JDBC-batched transactions.
+
+package io.github.raedeon.incidenttracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.raedeon.incidenttracker.dto.ImportResult;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.dto.TicketSnapshot;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+public class TicketImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private StatsRollupService rollup;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${incident.import.batch-size:500}")
+    private int batchSize;
+
+    // Longest CSV record read while a quoted field is open; past this the record is rejected as unterminated
+    private static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    // Turns one non-blank input record into an unsaved ticket
+    @FunctionalInterface
+    private interface RowParser {
+        Ticket parse(String record) throws Exception;
+    }
+
+    // Reads one record at a time, tracking the line each record starts on for error reports. An NDJSON record is one
+    // line; a CSV record continues onto the next line while a quoted field is open, so quoted breach reasons
+    // containing line breaks read back as one row (with each \r\n or \r read back as \n).
+    private static class Records {
+        private final BufferedReader reader;
+        private final boolean csv;
+        private long lineNo;
+        private long recordLine;
+
+        Records(BufferedReader reader, boolean csv, long firstLine) {
+            this.reader = reader;
+            this.csv = csv;
+            this.lineNo = firstLine - 1;
+        }
+
+        // The next record, or null at the end of the input
+        String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            recordLine = ++lineNo;
+            if (!csv || !TicketCsv.togglesQuote(line)) {
+                return line;
+            }
+
+            StringBuilder record = new StringBuilder(line);
+            boolean open = true;
+            while (open && record.length() <= MAX_RECORD_CHARS && (line = reader.readLine()) != null) {
+                lineNo++;
+                record.append('\n').append(line);
+                open = open != TicketCsv.togglesQuote(line);
+            }
+            return record.toString(); // Still open: TicketCsv.parseLine rejects it as unterminated
+        }
+
+        long line() {
+            return recordLine;
+        }
+    }
+
+    // Counters and the capped error list for one import run
+    private static class Progress {
+        long rowsRead;
+        long imported;
+        long failed;
+        final List<ImportResult.RowError> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResult.RowError(line, message));
+            }
+        }
+    }
+
+    // CSV with a header row naming the columns (see TicketCsv.COLUMNS)
+    public ImportResult importCsv(InputStream body) throws IOException {
+        BufferedReader reader = reader(body);
+        String header = reader.readLine();
+        if (header == null) {
+            return new ImportResult(0, 0, 0, List.of(), 0, 0);
+        }
+
+        List<String> columns = TicketCsv.parseLine(header.replace("\uFEFF", "")); // Ignore a UTF-8 BOM
+        if (!columns.contains("ticketId") || !columns.contains("module")) {
+            throw new IllegalArgumentException("CSV header must include ticketId and module");
+        }
+        return importRecords(new Records(reader, true, 2), record -> fromCsv(columns, TicketCsv.parseLine(record)));
+    }
+
+    // One JSON ticket object per line; any "id" is dropped so rows are always inserted as new tickets
+    public ImportResult importNdjson(InputStream body) throws IOException {
+        return importRecords(new Records(reader(body), false, 1), line -> {
+            ObjectNode row = (ObjectNode) objectMapper.readTree(line);
+            row.remove("id");
+            return objectMapper.treeToValue(row, Ticket.class);
+        });
+    }
+
+    // Helper: Read, validate and write rows batch by batch; only one batch is held in memory at a time
+    private ImportResult importRecords(Records records, RowParser parser) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+
+        String record;
+        while ((record = records.next()) != null) {
+            long lineNo = records.line();
+            if (record.isBlank()) {
+                continue;
+            }
+            progress.rowsRead++;
+
+            try {
+                Ticket ticket = parser.parse(record);
+                validate(ticket);
+                batch.add(ticket);
+                batchLines.add(lineNo);
+            } catch (Exception e) {
+                progress.reject(lineNo, e.getMessage());
+            }
+
+            if (batch.size() >= batchSize) {
+                writeBatch(batch, batchLines, progress);
+                batch.clear();
+                batchLines.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, batchLines, progress);
+        }
+
+        if (progress.imported > 0) {
+            // Too many rows to push individually; subscribers reload instead
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.IMPORTED, List.of()));
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        double rowsPerSecond = progress.rowsRead * 1000.0 / elapsedMs;
+        log.info("Imported {} of {} tickets in {} ms ({} rows/s)",
+                progress.imported, progress.rowsRead, elapsedMs, Math.round(rowsPerSecond));
+        return new ImportResult(progress.rowsRead, progress.imported, progress.failed,
+                progress.errors, elapsedMs, rowsPerSecond);
+    }
+
+    // Helper: Insert one batch and its stats deltas in a single transaction, skipping existing tickets
+    private void writeBatch(List<Ticket> batch, List<Long> lines, Progress progress) {
+        Set<String> ticketIds = new HashSet<>();
+        batch.forEach(t -> ticketIds.add(t.getTicketId()));
+
+        // Duplicates are only reported once the batch commits, so a rolled-back batch is not counted twice
+        List<ImportResult.RowError> duplicates = new ArrayList<>();
+        try {
+            long written = tx.execute(status -> {
+                Set<String> seen = new HashSet<>();
+                for (Object[] row : repo.findExistingKeys(ticketIds)) {
+                    seen.add(key((String) row[0], (String) row[1]));
+                }
+
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                Map<StatsRollupService.StatKey, Long> deltas = new HashMap<>();
+                long count = 0;
+                for (int i = 0; i < batch.size(); i++) {
+                    Ticket ticket = batch.get(i);
+                    if (!seen.add(key(ticket.getTicketId(), ticket.getModule()))) {
+                        duplicates.add(new ImportResult.RowError(lines.get(i),
+                                "Duplicate ticket " + ticket.getModule() + " " + ticket.getTicketId()));
+                        continue;
+                    }
+                    ticketService.initSla(ticket);
+                    entityManager.persist(ticket);
+                    StatsRollupService.addContributions(TicketSnapshot.of(ticket), 1, deltas);
+                    count++;
+                }
+
+                entityManager.flush(); // Sends the inserts as JDBC batches
+                entityManager.clear(); // Keeps the persistence context from growing across batches
+                rollup.applyDeltas(deltas);
+                return count;
+            });
+            progress.imported += written;
+            duplicates.forEach(d -> progress.reject(d.line(), d.message()));
+        } catch (DataAccessException e) {
+            // The whole batch rolled back; report every row in it and carry on with the next one
+            for (Long line : lines) {
+                progress.reject(line, "Batch failed: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    // Helper: Normalise and check one parsed row, mirroring what addTicket accepts
+    private void validate(Ticket t) {
+        if (t == null) {
+            throw new IllegalArgumentException("Empty row");
+        }
+        if (t.getTicketId() == null || t.getTicketId().isBlank()) {
+            throw new IllegalArgumentException("ticketId is required");
+        }
+        if (t.getModule() == null || t.getModule().isBlank()) {
+            throw new IllegalArgumentException("module is required");
+        }
+        t.setTicketId(t.getTicketId().trim());
+        t.setModule(t.getModule().trim());
+
+        if (t.getDateLogged() == null) {
+            t.setDateLogged(LocalDate.now()); // Same fallback as addTicket
+        }
+
+        String status = t.getStatus() == null || t.getStatus().isBlank() ? "Open" : t.getStatus().trim();
+        if (status.equalsIgnoreCase("Open")) {
+            if (t.getDayClosed() != null) {
+                throw new IllegalArgumentException("dayClosed is only allowed on Closed tickets");
+            }
+            t.setStatus("Open");
+        } else if (status.equalsIgnoreCase("Closed")) {
+            if (t.getDayClosed() == null) {
+                throw new IllegalArgumentException("dayClosed is required for Closed tickets");
+            }
+            t.setStatus("Closed");
+        } else {
+            throw new IllegalArgumentException("Invalid status: " + t.getStatus());
+        }
+    }
+
+    // Helper: Build a ticket from CSV fields using the header's column positions
+    private Ticket fromCsv(List<String> columns, List<String> fields) {
+        Ticket t = new Ticket();
+        for (int i = 0; i < columns.size() && i < fields.size(); i++) {
+            String value = fields.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns.get(i)) {
+                case "ticketId" -> t.setTicketId(value);
+                case "module" -> t.setModule(value);
+                case "dateLogged" -> t.setDateLogged(LocalDate.parse(value));
+                case "status" -> t.setStatus(value);
+                case "dayClosed" -> t.setDayClosed(LocalDate.parse(value));
+                case "breachReason" -> t.setBreachReason(value);
+                default -> { } // Unknown columns are ignored
+            }
+        }
+        return t;
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    private static String key(String ticketId, String module) {
+        return ticketId + '\0' + module;
+    }
+}
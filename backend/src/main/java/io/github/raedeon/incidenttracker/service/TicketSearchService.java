@@ -0,0 +1,93 @@
+// This file answers free-text ticket searches from the PostgreSQL full-text index on ticket ID, module and breach reason.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketSearchPage;
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class TicketSearchService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_TEXT_LENGTH = 200;
+    private static final Pattern WORD_BREAK = Pattern.compile("[^\\p{Alnum}]+", Pattern.UNICODE_CHARACTER_CLASS);
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Value("${incident.search.max-candidates:10000}")
+    private int maxCandidates;
+
+    // Every word must match in any of the three fields, the last one as a prefix; results are ordered by rank, then
+    // newest first. Only live tickets are searched: archived ones have no search vector and are found by ticket ID
+    // through TicketArchiveService.lookup.
+    @Transactional(readOnly = true)
+    public TicketSearchPage search(String text, int offset, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text is limited to " + MAX_TEXT_LENGTH + " characters");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        String query = toTsQuery(text);
+        if (query == null) {
+            return new TicketSearchPage(List.of(), 0, false, null);
+        }
+
+        // One extra row tells whether another page exists; each row is { id, candidate count }
+        List<Object[]> rows = repo.searchIds(query, maxCandidates, offset, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        long matches = rows.isEmpty() ? 0 : ((Number) rows.get(0)[1]).longValue();
+
+        List<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Map<Long, Ticket> byId = repo.findAllById(ids).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        List<TicketView> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Ticket t = byId.get(id);
+            if (t != null) { // Deleted between the two queries
+                items.add(TicketView.of(t));
+            }
+        }
+
+        return new TicketSearchPage(items, matches, matches >= maxCandidates, hasMore ? offset + pageSize : null);
+    }
+
+    // Helper: Split the text into words as V3__ticket_search.sql splits the indexed fields, and AND them together.
+    // Only the last word is a prefix, as in type-ahead: a prefix of a common word (every ticket ID starts with the
+    // same few letters) makes PostgreSQL merge huge posting lists, while whole words can be intersected cheaply.
+    // Words are purely alphanumeric, so quoting them cannot break the tsquery syntax.
+    static String toTsQuery(String text) {
+        String[] words = WORD_BREAK.split(text.trim().toLowerCase(Locale.ROOT));
+        StringJoiner query = new StringJoiner(" & ");
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                query.add("'" + word + "'");
+            }
+        }
+        return query.length() == 0 ? null : query + ":*";
+    }
+}
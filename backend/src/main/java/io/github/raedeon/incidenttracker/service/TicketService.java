@@ -1,10 +1,31 @@
 package io.github.raedeon.incidenttracker.service; // Declares package
 
+import com.fasterxml.jackson.core.JsonGenerator; // Writes the streamed JSON array
+import com.fasterxml.jackson.databind.ObjectMapper; // Serializes tickets while streaming
+import com.github.benmanes.caffeine.cache.stats.CacheStats; // Hit/miss counters of the stats cache
+import jakarta.persistence.EntityManager; // Used to release entities between streamed pages
+import jakarta.persistence.PersistenceContext; // Injects the shared EntityManager
 import org.springframework.beans.factory.annotation.Autowired; // Enables dependency injection
+import org.springframework.context.ApplicationEventPublisher; // Publishes ticket change events
+import org.springframework.data.domain.Sort; // Sort order for keyset pagination
 import org.springframework.stereotype.Service; // Marks this class as a service bean
+import org.springframework.transaction.annotation.Transactional; // Keeps ticket and stats writes atomic
+import io.github.raedeon.incidenttracker.dto.IncidentStatsColumns; // Columnar /stats response
+import io.github.raedeon.incidenttracker.dto.LabelCount; // One point of a stats series
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent; // Published after every ticket write
+import io.github.raedeon.incidenttracker.dto.TicketCursor; // Keyset position between pages
+import io.github.raedeon.incidenttracker.dto.TicketFilter; // Optional list filters
+import io.github.raedeon.incidenttracker.dto.TicketPage; // One page of tickets
+import io.github.raedeon.incidenttracker.dto.TicketSnapshot; // Ticket state before/after a change
+import io.github.raedeon.incidenttracker.dto.TicketView; // Read-only list projection
+import io.github.raedeon.incidenttracker.model.StatMetric; // Series of the stats rollup
 import io.github.raedeon.incidenttracker.model.Ticket; // Imports the Ticket entity
+import io.github.raedeon.incidenttracker.repository.DailyTicketStatRepository; // Reads the stats rollup
 import io.github.raedeon.incidenttracker.repository.TicketRepository; // Imports the repository interface
+import io.github.raedeon.incidenttracker.repository.TicketSpecifications; // Builds filter criteria
 
+import java.io.IOException; // Thrown when the streamed response fails
+import java.io.OutputStream; // Target of the streamed response
 import java.time.LocalDate; // Used to get current date
 import java.time.temporal.ChronoUnit; // Used for calculating days between dates
 import java.util.*; // For List, Map, HashMap
@@ -13,116 +34,287 @@ import java.util.stream.Collectors; // Used for stream operations
 @Service // Registers this class as a Spring service bean
 public class TicketService {
 
+    public static final int SLA_DAYS = 5; // Days from dateLogged until the SLA is breached
+
+    // Keyset pages are ordered by (dateLogged, id), matching idx_ticket_date_logged_id
+    private static final Sort KEYSET_ORDER = Sort.by("dateLogged", "id");
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_PAGE_SIZE = 1000;
+
     @Autowired // Automatically injects the TicketRepository bean
     private TicketRepository repo;
 
-    // Fetch all tickets and recalculate daysToSla on-the-fly
-    public List<Ticket> getAllTickets() {
-        List<Ticket> tickets = repo.findAll();
+    @Autowired // Reads precomputed daily counters for /stats
+    private DailyTicketStatRepository statRepo;
 
-        // Recalculate daysToSla for all tickets
-        for (Ticket t : tickets) {
-            int daysToSla = 5 - (int) ChronoUnit.DAYS.between(t.getDateLogged(), LocalDate.now());
-            t.setDaysToSla(daysToSla);
+    @Autowired // Keeps the daily stats rollup in step with ticket writes
+    private StatsRollupService rollup;
 
-            // If daysToSla is negative and status is "Open", set breachedDate to today
-            if (t.getBreachedDate() == null && daysToSla < 0 && t.getStatus().equals("Open")) {
-                t.setBreachedDate(LocalDate.now()); // Set breached month
-            }
+    @Autowired // Brings archived tickets back when a write by ticket ID finds no live one
+    private TicketArchiveService archive;
+
+    @Autowired // Caches /stats results until the rollup changes
+    private IncidentStatsCache statsCache;
+
+    @Autowired // Keys the stats cache, so entries built before another instance's write are not reused
+    private TicketDataVersion dataVersion;
+
+    @Autowired // Notifies listeners such as the SSE change feed once writes commit
+    private ApplicationEventPublisher events;
+
+    @Autowired // Spring's configured mapper (with JavaTimeModule) for streamed responses
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Fetch all tickets as read-only projections; daysToSla is derived from the stored SLA due date
+    @Transactional(readOnly = true)
+    public List<TicketView> getAllTickets() {
+        return repo.findAllViews();
+    }
+
+    // Fetch one page of tickets after the given cursor, applying the optional filters
+    // (read-only: Hibernate loads the entities without dirty-checking snapshots)
+    @Transactional(readOnly = true)
+    public TicketPage getTicketPage(TicketFilter filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TicketCursor after = cursor != null ? TicketCursor.parse(cursor) : null;
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<Ticket> tickets = fetchPage(filter, after, pageSize + 1);
+        boolean hasMore = tickets.size() > pageSize;
+        if (hasMore) {
+            tickets = tickets.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? TicketCursor.after(tickets.get(tickets.size() - 1)).encode() : null;
+        return new TicketPage(tickets.stream().map(TicketView::of).toList(), nextCursor);
+    }
+
+    // Stream every matching ticket as a JSON array, one keyset page at a time so heap use stays flat
+    public void streamTickets(TicketFilter filter, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+
+            TicketCursor after = null;
+            List<Ticket> page;
+            do {
+                page = fetchPage(filter, after, STREAM_PAGE_SIZE);
+                for (Ticket t : page) {
+                    json.writeObject(t);
+                }
+                json.flush(); // Push each page to the client as soon as it is written
+
+                if (!page.isEmpty()) {
+                    after = TicketCursor.after(page.get(page.size() - 1));
+                }
+                entityManager.clear(); // Drop the page from any request-bound persistence context
+            } while (page.size() == STREAM_PAGE_SIZE);
+
+            json.writeEndArray();
+        }
+    }
+
+    // Helper: Run one keyset-bounded, filtered query
+    private List<Ticket> fetchPage(TicketFilter filter, TicketCursor after, int size) {
+        return repo.findBy(TicketSpecifications.matching(filter, after),
+                q -> q.sortBy(KEYSET_ORDER).limit(size).all());
+    }
+
+    // Helper: Flag an open ticket that is already past its SLA; later crossings are handled by SlaBreachSweeper
+    private void applyBreachIfOverdue(Ticket t) {
+        if (t.getBreachedDate() == null && t.getSlaDueDate().isBefore(LocalDate.now()) && t.getStatus().equals("Open")) {
+            t.setBreachedDate(LocalDate.now()); // Set breached month
         }
+    }
 
-        return tickets;
+    // Helper: Store the SLA due date, calculate daysToSla from it and flag the ticket if already overdue
+    void initSla(Ticket ticket) {
+        LocalDate slaDueDate = ticket.getDateLogged().plusDays(SLA_DAYS);
+        ticket.setSlaDueDate(slaDueDate);
+        ticket.setDaysToSla((int) ChronoUnit.DAYS.between(LocalDate.now(), slaDueDate));
+        applyBreachIfOverdue(ticket);
     }
 
     // Add a new ticket
+    @Transactional
     public Ticket addTicket(Ticket ticket) {
         // Use today as fallback if no date is provided
         LocalDate dateLogged = (ticket.getDateLogged() != null)
                 ? ticket.getDateLogged()
                 : LocalDate.now();
         ticket.setDateLogged(dateLogged);
-
-        // Calculate daysToSla from dateLogged
-        int daysToSla = 5 - (int) ChronoUnit.DAYS.between(dateLogged, LocalDate.now());
-        ticket.setDaysToSla(daysToSla);
-
-        if (daysToSla < 0) {
-            ticket.setBreachedDate(LocalDate.now()); // Set breached month
-        }
-
         ticket.setStatus("Open"); // Default status
+        if (archive.isArchived(ticket.getTicketId(), ticket.getModule())) {
+            throw new IllegalArgumentException("Ticket " + ticket.getTicketId() + " already exists in the archive");
+        }
+        initSla(ticket);
 
-        return repo.save(ticket); // Saves the new ticket
+        Ticket saved = repo.save(ticket); // Saves the new ticket
+        rollup.recordChange(null, TicketSnapshot.of(saved));
+        events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.ADDED, List.of(saved)));
+        return saved;
     }
 
-    // Close a ticket by ID and set closure date
-    public Ticket closeTicket(String ticketId, String closeDateStr) {
-        Ticket ticket = repo.findByTicketId(ticketId).orElseThrow(); // Finds ticket or throws 404
+    // Close a ticket by ID (and module, when the ID exists in several) and set closure date
+    @Transactional
+    public Ticket closeTicket(String ticketId, String module, String closeDateStr) {
+        Ticket ticket = findSingle(ticketId, module); // Finds ticket or throws
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.setStatus("Closed"); // Updates status
 
         // Parse the closeDate string (e.g. "2025-06-18")
         LocalDate closeDate = closeDateStr != null ? LocalDate.parse(closeDateStr) : LocalDate.now();
         ticket.setDayClosed(closeDate); // Sets closure date
 
-        return repo.save(ticket); // Saves the update
+        Ticket saved = repo.save(ticket); // Saves the update
+        rollup.recordChange(before, TicketSnapshot.of(saved));
+        events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.CLOSED, List.of(saved)));
+        return saved;
     }
 
     // Update breach reason for a specific ticket
-    public Ticket updateBreachReason(String ticketId, String reason) {
-        Ticket ticket = repo.findByTicketId(ticketId).orElseThrow(); // Finds ticket or throws 404
-        ticket.setBreachReason(reason.replaceAll("\"", "")); // Clean string input
-        return repo.save(ticket); // Saves the update
+    @Transactional
+    public Ticket updateBreachReason(String ticketId, String module, String reason) {
+        Ticket ticket = findSingle(ticketId, module); // Finds ticket or throws
+        ticket.setBreachReason(cleanBreachReason(reason)); // Clean string input
+        Ticket saved = repo.save(ticket); // Saves the update
+        events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.BREACH_REASON, List.of(saved)));
+        return saved;
     }
 
     // Reopen a ticket by ID
-    public Ticket reopenTicket(String ticketId) {
-        Ticket ticket = repo.findByTicketId(ticketId).orElseThrow(); // Finds ticket or throws 404
+    @Transactional
+    public Ticket reopenTicket(String ticketId, String module) {
+        Ticket ticket = findSingle(ticketId, module); // Finds ticket or throws
+        TicketSnapshot before = TicketSnapshot.of(ticket);
         ticket.setStatus("Open"); // Updates status to Open
         ticket.setDayClosed(null); // Clears closure date
         ticket.setBreachedDate(null); // Clears breached date
         ticket.setBreachReason(null); // Clears breach reason
-        return repo.save(ticket); // Saves the update
+        applyBreachIfOverdue(ticket); // Re-flags it if it is still past SLA, since the sweeper has already passed it
+        Ticket saved = repo.save(ticket); // Saves the update
+        rollup.recordChange(before, TicketSnapshot.of(saved));
+        events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.REOPENED, List.of(saved)));
+        return saved;
     }
 
     // Delete a ticket by ID and module
+    @Transactional
     public void deleteTicket(String module, String ticketId) {
+        archive.restore(ticketId, module); // So archived rows are deleted (and uncounted) the same way
+        List<Ticket> deleted = repo.findByTicketIdAndModule(ticketId, module);
         repo.deleteByTicketIdAndModule(ticketId, module); // Deletes using composite key
+        deleted.forEach(t -> rollup.recordChange(TicketSnapshot.of(t), null));
+        if (!deleted.isEmpty()) {
+            events.publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.DELETED, deleted));
+        }
+    }
+
+    // Helper: Load and row-lock the one ticket with this ID (in this module, if given); IDs are only unique per
+    // module, so refuse to guess between modules. The lock is held until commit, so concurrent writes to the ticket
+    // apply one after another. The archive is only restored from when no live ticket matches.
+    private Ticket findSingle(String ticketId, String module) {
+        List<Ticket> matches = lockMatching(ticketId, module);
+        if (matches.isEmpty() && archive.restore(ticketId, module) > 0) {
+            matches = lockMatching(ticketId, module);
+        }
+        if (matches.isEmpty()) {
+            throw new NoSuchElementException("No ticket " + ticketId + (module != null ? " in module " + module : ""));
+        }
+        // (ticket_id, module) is unique, so only an ID without a module can match several tickets; a live match
+        // is still ambiguous if the ID is also archived under another module
+        int modules = module != null ? 1 : matches.size() + archive.findArchived(List.of(ticketId)).size();
+        if (modules > 1) {
+            throw new IllegalArgumentException(
+                    "Ticket ID " + ticketId + " exists in " + modules + " modules; pass its module");
+        }
+        return matches.get(0);
+    }
+
+    // Helper: Row-lock the live tickets with this ID (in this module, if given)
+    private List<Ticket> lockMatching(String ticketId, String module) {
+        return module != null
+                ? repo.findByTicketIdAndModule(ticketId, module) // Locked query
+                : repo.lockByTicketIds(List.of(ticketId));
+    }
+
+    // Helper: Breach reasons are stored without double quotes, whether set on one ticket or a batch
+    static String cleanBreachReason(String reason) {
+        return reason != null ? reason.replace("\"", "") : null;
+    }
+
+    // Helper: Turn one columnar series into { label, count } points, skipping empty buckets
+    static List<LabelCount> convertToLabelCount(String[] labels, long[] counts) {
+        List<LabelCount> points = new ArrayList<>();
+        for (int i = 0; i < labels.length; i++) {
+            if (counts[i] > 0) {
+                points.add(new LabelCount(labels[i], counts[i]));
+            }
+        }
+        return points;
+    }
+
+    // Get incident statistics grouped by daily, weekly, or monthly, served from cache between writes
+    public Map<String, List<LabelCount>> getIncidentStats(String range) {
+        return statsCache.get(range.toLowerCase(), dataVersion.current(), this::computeIncidentStats).series();
     }
 
-    // Helper: Convert raw query results into { label, count } maps
-    private List<Map<String, Object>> convertToLabelCount(List<Object[]> raw) {
-        return raw.stream().map(row -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("label", row[0]);
-            map.put("count", row[1]);
-            return map;
-        }).collect(Collectors.toList());
+    // Same statistics as parallel arrays over one shared label axis (no per-point objects)
+    public IncidentStatsColumns getIncidentStatsColumns(String range) {
+        return statsCache.get(range.toLowerCase(), dataVersion.current(), this::computeIncidentStats).columns();
+    }
+
+    // Helper: Compute all four series with one query over the daily rollup, in both response shapes
+    private IncidentStatsCache.Entry computeIncidentStats(String range) {
+        String format = labelFormat(range);
+
+        // Columns 1..4 of each row follow StatMetric declaration order; buckets whose counters
+        // have all dropped back to zero are left off the label axis
+        List<Object[]> rows = new ArrayList<>(statRepo.sumAllBy(format));
+        rows.removeIf(row -> Arrays.stream(row, 1, row.length).allMatch(c -> ((Number) c).longValue() == 0));
+        String[] labels = new String[rows.size()];
+        long[][] counts = new long[StatMetric.values().length][rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            labels[i] = (String) row[0];
+            for (int m = 0; m < counts.length; m++) {
+                counts[m][i] = ((Number) row[m + 1]).longValue();
+            }
+        }
+
+        Map<String, long[]> columns = new LinkedHashMap<>();
+        Map<String, List<LabelCount>> series = new HashMap<>();
+        for (StatMetric metric : StatMetric.values()) {
+            columns.put(metric.getLabel(), counts[metric.ordinal()]);
+            series.put(metric.getLabel(), convertToLabelCount(labels, counts[metric.ordinal()]));
+        }
+
+        return new IncidentStatsCache.Entry(new IncidentStatsColumns(labels, columns), series);
     }
 
-    // Get incident statistics grouped by daily, weekly, or monthly
-    public Map<String, List<Map<String, Object>>> getIncidentStats(String range) {
-        String format;
-        switch (range.toLowerCase()) {
+    // TO_CHAR format of the bucket labels for a stats range (daily, weekly or monthly)
+    static String labelFormat(String range) {
+        switch (range) {
             case "daily":
-                format = "YYYY-MM-DD";
-                break;
+                return "YYYY-MM-DD";
             case "weekly":
-                format = "IYYY-IW"; // ISO Year + Week
-                break;
+                return "IYYY-IW"; // ISO Year + Week
             case "monthly":
-                format = "YYYY-MM";
-                break;
+                return "YYYY-MM";
             default:
                 throw new IllegalArgumentException("Invalid range: " + range);
         }
+    }
 
-        // Call custom SQL aggregate functions and format response
-        Map<String, List<Map<String, Object>>> result = new HashMap<>();
-        result.put("Raised", convertToLabelCount(repo.countRaisedBy(format)));
-        result.put("Open", convertToLabelCount(repo.countOpenBy(format)));
-        result.put("Closed", convertToLabelCount(repo.countClosedBy(format)));
-        result.put("Breached", convertToLabelCount(repo.countBreachedBy(format)));
+    // Hit/miss counters of the stats cache
+    public CacheStats getIncidentStatsCacheStats() {
+        return statsCache.stats();
+    }
 
-        return result;
+    // Rebuild the daily stats rollup from the ticket table (backfill or repair)
+    public int rebuildIncidentStats() {
+        return rollup.rebuild();
     }
 }
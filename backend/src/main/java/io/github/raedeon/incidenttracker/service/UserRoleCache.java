@@ -0,0 +1,57 @@
+// This file caches email-to-role lookups so authenticating a request does not cost a database round-trip.
+
+package io.github.raedeon.incidenttracker.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.raedeon.incidenttracker.model.Role;
+import io.github.raedeon.incidenttracker.model.User;
+import io.github.raedeon.incidenttracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class UserRoleCache {
+
+    // Unknown emails are cached too (as empty), so repeated requests from them stay off the database
+    private final LoadingCache<String, Optional<Role>> cache;
+
+    // Time per authenticated request spent resolving the role, cache hits included
+    private final Timer lookupTimer;
+
+    public UserRoleCache(UserRepository userRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${incident.auth.role-cache.max-size:10000}") long maxSize,
+                         @Value("${incident.auth.role-cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(email -> userRepository.findByEmail(email).map(User::getRole));
+        this.lookupTimer = Timer.builder("incident.auth.role.lookup")
+                .description("Email-to-role resolution in the JWT authorities converter")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userRoles"); // Hit/miss/load counts and load time
+    }
+
+    public Optional<Role> getRole(String email) {
+        return lookupTimer.record(() -> cache.get(email));
+    }
+
+    // Call whenever a user's role is created or changed so the next request sees it
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    // Hits are database lookups avoided; loads are lookups that went to the database
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,46 @@
+-- This file creates the schema as Hibernate's ddl-auto=update left it, so new and existing databases start level.
+-- Every statement is idempotent: databases created before migrations existed are baselined at version 0 and run it too.
+
+CREATE SEQUENCE IF NOT EXISTS ticket_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS ticket (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    ticket_id     VARCHAR(255),
+    module        VARCHAR(255),
+    date_logged   DATE,
+    days_to_sla   INTEGER      NOT NULL,
+    sla_due_date  DATE,
+    status        VARCHAR(255),
+    day_closed    DATE,
+    breached_date DATE,
+    breach_reason VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    email VARCHAR(255) NOT NULL PRIMARY KEY,
+    role  VARCHAR(255) CHECK (role IN ('ADMIN', 'USER', 'VIEWER'))
+);
+
+CREATE TABLE IF NOT EXISTS daily_ticket_stat (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    day          DATE         NOT NULL,
+    module       VARCHAR(255) NOT NULL,
+    metric       VARCHAR(255) NOT NULL CHECK (metric IN ('RAISED', 'OPEN', 'CLOSED', 'BREACHED')),
+    ticket_count BIGINT       NOT NULL,
+    CONSTRAINT uq_daily_ticket_stat UNIQUE (day, module, metric)
+);
+
+-- On a baselined database the ticket table already exists, so CREATE TABLE above left it as it was: add the columns
+-- introduced since (SlaBreachSweeper backfills sla_due_date for the existing rows at startup)
+ALTER TABLE ticket ADD COLUMN IF NOT EXISTS sla_due_date DATE;
+
+-- Keyset pagination and list filters
+CREATE INDEX IF NOT EXISTS idx_ticket_date_logged_id ON ticket (date_logged, id);
+CREATE INDEX IF NOT EXISTS idx_ticket_module_status_date ON ticket (module, status, date_logged);
+CREATE INDEX IF NOT EXISTS idx_ticket_status_date ON ticket (status, date_logged);
+CREATE INDEX IF NOT EXISTS idx_ticket_breached_date ON ticket (breached_date);
+CREATE INDEX IF NOT EXISTS idx_ticket_status_sla_due ON ticket (status, sla_due_date);
+
+-- Older databases assigned ticket ids from an identity column; move the pooled sequence past them
+SELECT setval('ticket_seq', (SELECT MAX(id) FROM ticket) + 50)
+WHERE (SELECT MAX(id) FROM ticket) + 50 > (SELECT last_value FROM ticket_seq);
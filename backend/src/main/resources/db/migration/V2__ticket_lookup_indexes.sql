@@ -0,0 +1,23 @@
+-- This file makes (ticket_id, module) unique and indexes the by-ID lookups and the stats rollup group-bys.
+
+-- Refuse to continue over duplicates rather than pick which copy to drop; resolve them by hand and restart
+DO $$
+DECLARE
+    duplicates BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO duplicates
+    FROM (SELECT 1 FROM ticket GROUP BY ticket_id, module HAVING COUNT(*) > 1) AS d;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION '% (ticket_id, module) pairs occur more than once; '
+                        'find them with: SELECT ticket_id, module, COUNT(*) FROM ticket '
+                        'GROUP BY 1, 2 HAVING COUNT(*) > 1', duplicates;
+    END IF;
+END $$;
+
+-- Serves lookups by ticket ID alone (leading column) and by ID and module: close, reopen, breach reason,
+-- delete, batch row locks and the import's duplicate check
+CREATE UNIQUE INDEX IF NOT EXISTS uq_ticket_ticket_id_module ON ticket (ticket_id, module);
+
+-- Stats rebuild: RAISED/OPEN/BREACHED group by (date_logged, module), CLOSED by (day_closed, module)
+CREATE INDEX IF NOT EXISTS idx_ticket_date_logged_module ON ticket (date_logged, module);
+CREATE INDEX IF NOT EXISTS idx_ticket_closed_module ON ticket (day_closed, module) WHERE status = 'Closed';
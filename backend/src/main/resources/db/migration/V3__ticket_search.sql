@@ -0,0 +1,16 @@
+-- This file adds a full-text search document to each ticket, built from the ticket ID, module and breach reason.
+-- PostgreSQL keeps the generated column and its GIN index current on every insert and update, including the
+-- set-based batch statements and the bulk import, so the application never writes it.
+-- Adding a stored generated column rewrites the table: on a large ticket table, run this in a quiet window.
+
+-- Punctuation becomes a word break before parsing, so "INC-1042" is indexed as inc and 1042 (the default parser
+-- would keep -1042 as a signed number). 'simple' does no stemming or stop words, which suits IDs and module codes.
+-- Weights rank ID hits above module hits above breach-reason hits. TicketSearchService splits
+-- the query text the same way.
+ALTER TABLE ticket ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', regexp_replace(coalesce(ticket_id, ''), '[^[:alnum:]]+', ' ', 'g')), 'A') ||
+    setweight(to_tsvector('simple', regexp_replace(coalesce(module, ''), '[^[:alnum:]]+', ' ', 'g')), 'B') ||
+    setweight(to_tsvector('simple', regexp_replace(coalesce(breach_reason, ''), '[^[:alnum:]]+', ' ', 'g')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_ticket_search ON ticket USING GIN (search_vector);
@@ -0,0 +1,20 @@
+-- This file adds the archive that closed tickets move to once they are past the retention window (TicketArchiveService).
+-- Rows keep their ticket ids, so a ticket restored to the live table comes back unchanged. The stats rollup counts
+-- tickets in both tables, so archiving never changes /api/tickets/stats.
+
+CREATE TABLE IF NOT EXISTS ticket_archive (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    ticket_id     VARCHAR(255),
+    module        VARCHAR(255),
+    date_logged   DATE,
+    days_to_sla   INTEGER      NOT NULL,
+    sla_due_date  DATE,
+    status        VARCHAR(255),
+    day_closed    DATE,
+    breached_date DATE,
+    breach_reason VARCHAR(255),
+    archived_at   TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- Lookups and restores by ticket ID; also keeps (ticket_id, module) unique within the archive
+CREATE UNIQUE INDEX IF NOT EXISTS uq_ticket_archive_ticket_id_module ON ticket_archive (ticket_id, module);
@@ -0,0 +1,10 @@
+-- This file adds the single-row data version that the ETags of conditional GETs are derived from (TicketDataVersion).
+-- Every ticket write increments it in its own transaction, just before committing, so all instances read the same
+-- version for the same committed data and a write through one instance changes the ETags every instance issues.
+
+CREATE TABLE IF NOT EXISTS ticket_data_version (
+    id      SMALLINT NOT NULL PRIMARY KEY CHECK (id = 1),
+    version BIGINT   NOT NULL
+);
+
+INSERT INTO ticket_data_version (id, version) VALUES (1, 1) ON CONFLICT (id) DO NOTHING;
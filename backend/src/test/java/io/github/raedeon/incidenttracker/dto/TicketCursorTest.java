@@ -0,0 +1,47 @@
+// This file tests encoding and parsing of the keyset paging cursor.
+
+package io.github.raedeon.incidenttracker.dto;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCursorTest {
+
+    @Test
+    void encodesAsDateAndId() {
+        assertThat(new TicketCursor(LocalDate.of(2025, 6, 18), 42).encode()).isEqualTo("2025-06-18:42");
+    }
+
+    @Test
+    void parsesWhatItEncodes() {
+        TicketCursor cursor = new TicketCursor(LocalDate.of(2024, 2, 29), 9_000_000_001L);
+
+        assertThat(TicketCursor.parse(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void pointsAfterTheGivenTicket() {
+        Ticket ticket = new Ticket();
+        ReflectionTestUtils.setField(ticket, "id", 7L); // No setter: assigned by the database
+        ticket.setDateLogged(LocalDate.of(2025, 1, 2));
+
+        assertThat(TicketCursor.after(ticket)).isEqualTo(new TicketCursor(LocalDate.of(2025, 1, 2), 7));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "42", ":42", "2025-06-18", "2025-06-18:", "2025-06-18:abc", "2025-13-01:42",
+            "18/06/2025:42", "2025-06-18:42:1"})
+    void rejectsMalformedCursors(String value) {
+        assertThatThrownBy(() -> TicketCursor.parse(value))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: " + value);
+    }
+}
@@ -0,0 +1,114 @@
+// This file checks that the Flyway migrations bring a database created by the old ddl-auto=update up to date.
+
+package io.github.raedeon.incidenttracker.repository;
+
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.service.TicketService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The database starts with the tables Hibernate generated for the original entities (identity ticket ids, no
+// sla_due_date) and a few tickets, so Flyway baselines it at version 0 and runs every migration over existing tables.
+// Hibernate then validates the entities against the migrated schema, and the startup backfill runs as it would in
+// production.
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=0",
+        "spring.devtools.restart.enabled=false",
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/unused",
+        "incident.archive.cron=-",
+        "logging.level.root=WARN"
+})
+class BaselineMigrationTest {
+
+    private static final EmbeddedPostgres postgres = start();
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Test
+    void runsEveryMigrationOverTheBaselinedSchema() {
+        assertThat(jdbc.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class))
+                .containsExactly("0", "1", "2", "3", "4", "5");
+        assertThat(jdbc.queryForList("SELECT indexname FROM pg_indexes WHERE tablename = 'ticket'", String.class))
+                .contains("idx_ticket_status_sla_due", "uq_ticket_ticket_id_module", "idx_ticket_search");
+    }
+
+    @Test
+    void backfillsTheSlaDueDateOfExistingTickets() {
+        assertThat(jdbc.queryForList("SELECT sla_due_date - date_logged FROM ticket WHERE id <= 3", Integer.class))
+                .containsOnly(TicketService.SLA_DAYS);
+    }
+
+    @Test
+    void newTicketsGetIdsPastTheExistingOnes() {
+        Ticket ticket = new Ticket();
+        ticket.setTicketId("INC-4");
+        ticket.setModule("HR");
+        ticket.setDateLogged(LocalDate.now());
+        ticket.setStatus("Open");
+
+        assertThat(repo.save(ticket).getId()).isGreaterThan(3);
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start(); // Stopped by its own shutdown hook
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE ticket (
+                            days_to_sla   INTEGER NOT NULL,
+                            breached_date DATE,
+                            date_logged   DATE,
+                            day_closed    DATE,
+                            id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                            breach_reason VARCHAR(255),
+                            module        VARCHAR(255),
+                            status        VARCHAR(255),
+                            ticket_id     VARCHAR(255)
+                        );
+                        CREATE TABLE users (
+                            role  VARCHAR(255) CHECK (role IN ('ADMIN', 'USER', 'VIEWER')),
+                            email VARCHAR(255) NOT NULL PRIMARY KEY
+                        );
+                        INSERT INTO ticket (days_to_sla, date_logged, status, ticket_id, module)
+                        VALUES (5, current_date - 2, 'Open', 'INC-1', 'HR'),
+                               (5, current_date - 1, 'Open', 'INC-2', 'FIN'),
+                               (5, current_date, 'Open', 'INC-3', 'OPS');
+                        """);
+            }
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+// This file records the SQL statements the application executes, with their bound values, for TicketQueryPlanTest.
+
+package io.github.raedeon.incidenttracker.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Wraps the DataSource so every PreparedStatement run on the recording thread is captured as executable SQL.
+// The PostgreSQL driver renders a prepared statement with its parameters inlined, so the captured text is exactly
+// what Hibernate or Spring Data sent, values included; background work on other threads is ignored.
+class StatementRecorder implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    private static final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    // Runs the action and returns the statements it executed on this thread, in order
+    static List<String> record(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result) ->
+                    "getConnection".equals(method.getName()) ? proxy(Connection.class, (Connection) result, this::wrap) : result);
+        }
+        return bean;
+    }
+
+    // Helper: Wrap prepared statements handed out by a connection so their executions are recorded
+    private Object wrap(Method method, Object result) {
+        if (!(result instanceof PreparedStatement statement)) {
+            return result;
+        }
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class},
+                (proxy, called, args) -> {
+                    List<String> statements = recording.get();
+                    if (statements != null && EXECUTE.contains(called.getName()) && (args == null || args.length == 0)) {
+                        statements.add(statement.unwrap(PreparedStatement.class).toString());
+                    }
+                    return invoke(statement, called, args);
+                });
+    }
+
+    // Helper: Proxy the target, passing each call's result through the given function
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        InvocationHandler invocation = (proxy, method, args) -> handler.apply(method, invoke(target, method, args));
+        return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[] {type}, invocation);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object apply(Method method, Object result) throws Throwable;
+    }
+}
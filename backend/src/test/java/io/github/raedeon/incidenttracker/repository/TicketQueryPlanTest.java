@@ -0,0 +1,174 @@
+// This file checks that the hot ticket queries are planned as index scans against a seeded PostgreSQL.
+
+package io.github.raedeon.incidenttracker.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.raedeon.incidenttracker.dto.TicketFilter;
+import io.github.raedeon.incidenttracker.service.TicketSearchService;
+import io.github.raedeon.incidenttracker.service.TicketService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each case calls the real repository or service method, so the SQL explained is the SQL Hibernate and Spring Data
+// generate (captured by StatementRecorder with its bound values), not a hand-written copy. Calls run in a
+// transaction that is rolled back, so writes leave the seeded data as it was. The planner only prefers indexes once
+// the table is large enough, hence the 200,000 seeded tickets.
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.devtools.restart.enabled=false",
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/unused",
+        "incident.archive.cron=-",
+        "logging.level.root=WARN"
+})
+@Import(StatementRecorder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TicketQueryPlanTest {
+
+    private static final int TICKETS = 200_000;
+
+    private static final EmbeddedPostgres postgres = start();
+
+    @Autowired
+    private TicketRepository repo;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketSearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    // Same shape as the seeded load test: three years of tickets over six modules, a quarter of them open
+    @BeforeAll
+    void seed() {
+        jdbc.update("""
+                INSERT INTO ticket (id, ticket_id, module, date_logged, sla_due_date, days_to_sla,
+                                    status, day_closed, breached_date, breach_reason)
+                SELECT nextval('ticket_seq'), 'BENCH-' || g,
+                       (ARRAY['HR', 'FIN', 'OPS', 'IT', 'SALES', 'LEGAL'])[1 + g % 6],
+                       logged, logged + ?::int, 0,
+                       CASE WHEN g % 4 = 0 THEN 'Open' ELSE 'Closed' END,
+                       CASE WHEN g % 4 = 0 THEN NULL ELSE logged + g % 9 END,
+                       CASE WHEN g % 4 = 0 AND logged + ?::int < current_date THEN current_date
+                            WHEN g % 4 <> 0 AND g % 9 > ?::int THEN logged + ?::int + 1 END,
+                       NULL
+                FROM generate_series(1, ?::int) AS g
+                CROSS JOIN LATERAL (SELECT current_date - (g % 1095) AS logged) AS d
+                """,
+                TicketService.SLA_DAYS, TicketService.SLA_DAYS, TicketService.SLA_DAYS, TicketService.SLA_DAYS,
+                TICKETS);
+        jdbc.execute("ANALYZE ticket");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> hotQueriesUseIndexes() {
+        LocalDate today = LocalDate.now();
+        List<String> someTicketIds = List.of("BENCH-1", "BENCH-2", "BENCH-3");
+        List<Long> someIds = List.of(1L, 2L, 3L);
+
+        Map<String, Runnable> calls = new LinkedHashMap<>();
+        calls.put("findAllByTicketId", () -> repo.findAllByTicketId("BENCH-4242"));
+        calls.put("findByTicketIdAndModule", () -> repo.findByTicketIdAndModule("BENCH-4242", "HR"));
+        calls.put("deleteByTicketIdAndModule", () -> repo.deleteByTicketIdAndModule("BENCH-4242", "HR"));
+        calls.put("lockByTicketIds", () -> repo.lockByTicketIds(someTicketIds));
+        calls.put("findExistingKeys", () -> repo.findExistingKeys(someTicketIds));
+        calls.put("findOpenSlaKeysByIdIn", () -> repo.findOpenSlaKeysByIdIn(someIds));
+        calls.put("countByDateLoggedAndModule", () -> repo.countByDateLoggedAndModule(someIds));
+        calls.put("closeAll", () -> repo.closeAll(someIds, today));
+        calls.put("markNewlyBreached", () -> repo.markNewlyBreached(today.minusDays(7), today, 500));
+        calls.put("lockArchivable", () -> repo.lockArchivable(today.minusYears(1), Limit.of(1000)));
+        calls.put("page", () -> ticketService.getTicketPage(filter(null, null, null, null, false), null, 50));
+        calls.put("page after cursor", () -> ticketService.getTicketPage(filter(null, null, null, null, false),
+                today.minusDays(400) + ":1000", 50));
+        calls.put("page module+status", () -> ticketService.getTicketPage(filter("FIN", "Open", null, null, false), null, 50));
+        calls.put("page status+date range", () -> ticketService.getTicketPage(
+                filter(null, "Closed", today.minusDays(30), today, false), null, 50));
+        calls.put("page breached since", () -> ticketService.getTicketPage(
+                filter(null, null, today.minusDays(90), null, true), null, 50));
+        calls.put("search", () -> searchService.search("bench-4242", 0, 50));
+
+        return calls.entrySet().stream().map(call -> DynamicTest.dynamicTest(call.getKey(), () -> {
+            List<String> statements = new ArrayList<>();
+            tx.executeWithoutResult(status -> {
+                statements.addAll(StatementRecorder.record(call.getValue()));
+                status.setRollbackOnly();
+            });
+
+            List<String> ticketStatements = statements.stream().filter(sql -> sql.contains("ticket")).toList();
+            assertThat(ticketStatements).as("statements run by %s", call.getKey()).isNotEmpty();
+            for (String sql : ticketStatements) {
+                assertThat(seqScannedTables(sql)).as("plan of %s", sql).doesNotContain("ticket");
+            }
+        }));
+    }
+
+    // Helper: Tables the plan reads with a sequential scan
+    private List<String> seqScannedTables(String sql) {
+        String plan = jdbc.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+        List<String> tables = new ArrayList<>();
+        try {
+            collect(json.readTree(plan).get(0).get("Plan"), tables);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tables;
+    }
+
+    private static void collect(JsonNode node, List<String> tables) {
+        if ("Seq Scan".equals(node.get("Node Type").asText())) {
+            tables.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, tables);
+        }
+    }
+
+    private static TicketFilter filter(String module, String status, LocalDate from, LocalDate to, boolean breachedOnly) {
+        return new TicketFilter(module, status, from, to, breachedOnly);
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start(); // Stopped by its own shutdown hook
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+// This file tests how the open-ticket read model loads, orders and merges changed tickets.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.OpenTicketDue;
+import io.github.raedeon.incidenttracker.dto.OpenTicketSummary;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent.Type;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OpenTicketReadModelTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private TicketRepository repo;
+
+    private OpenTicketReadModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new OpenTicketReadModel(repo, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void reloadOrdersTicketsByDueDateThenId() {
+        load(row(3, "HR", TODAY.plusDays(2)),
+                row(1, "FIN", TODAY.minusDays(1)),
+                row(2, "HR", TODAY.plusDays(2)),
+                row(4, "HR", null, TODAY.minusDays(TicketService.SLA_DAYS)), // Due derived from dateLogged: today
+                row(5, null, null, null)); // Neither date: sorts last, never breaches
+
+        assertThat(model.listByDueDate(null, null, 10)).extracting(OpenTicketDue::id).containsExactly(1L, 4L, 2L, 3L, 5L);
+        assertThat(model.listByDueDate(null, null, 10).get(4)).satisfies(due -> {
+            assertThat(due.module()).isEmpty();
+            assertThat(due.slaDueDate()).isNull();
+            assertThat(due.daysToSla()).isEqualTo(Integer.MAX_VALUE);
+        });
+        assertThat(model.size()).isEqualTo(5);
+    }
+
+    @Test
+    void summarySplitsBreachedAndDueSoonPerModule() {
+        load(row(1, "HR", TODAY.minusDays(3)),
+                row(2, "HR", TODAY),
+                row(3, "HR", TODAY.plusDays(2)),
+                row(4, "HR", TODAY.plusDays(3)),
+                row(5, "FIN", null, null));
+
+        assertThat(model.summary(3)).containsExactly(
+                new OpenTicketSummary("FIN", 1, 0, 0),
+                new OpenTicketSummary("HR", 4, 2, 1));
+    }
+
+    @Test
+    void listFiltersByModuleWindowAndLimit() {
+        load(row(1, "HR", TODAY.minusDays(1)),
+                row(2, "FIN", TODAY),
+                row(3, "FIN", TODAY.plusDays(1)),
+                row(4, "FIN", TODAY.plusDays(5)));
+
+        assertThat(model.listByDueDate("FIN", 2, 10)).extracting(OpenTicketDue::id).containsExactly(2L, 3L);
+        assertThat(model.listByDueDate(null, null, 2)).extracting(OpenTicketDue::id).containsExactly(1L, 2L);
+        assertThat(model.listByDueDate("OPS", null, 10)).isEmpty();
+    }
+
+    @Test
+    void addedTicketIsMergedInDueOrder() {
+        load(row(1, "HR", TODAY.plusDays(1)), row(3, "HR", TODAY.plusDays(3)));
+        when(repo.findOpenSlaKeysByIdIn(any())).thenReturn(rows(row(2, "HR", TODAY.plusDays(2))));
+
+        model.onTicketChange(event(Type.ADDED, ticket(2, "HR")));
+        model.onTicketChange(event(Type.ADDED, ticket(2, "HR"))); // Delivered twice
+
+        assertThat(model.listByDueDate("HR", null, 10)).extracting(OpenTicketDue::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void closedTicketIsRemovedAndAnEmptiedModuleDisappears() {
+        load(row(1, "HR", TODAY), row(2, "FIN", TODAY));
+        when(repo.findOpenSlaKeysByIdIn(any())).thenReturn(List.of());
+
+        model.onTicketChange(event(Type.CLOSED, ticket(2, "FIN")));
+
+        assertThat(model.summary(7)).extracting(OpenTicketSummary::module).containsExactly("HR");
+        assertThat(model.size()).isEqualTo(1);
+    }
+
+    @Test
+    void staleEventLeavesTheCommittedState() {
+        load(row(1, "HR", TODAY.plusDays(1)), row(2, "HR", TODAY.plusDays(2)));
+        // A close that arrives after the ticket was reopened: the database still has it open
+        when(repo.findOpenSlaKeysByIdIn(any())).thenReturn(rows(row(1, "HR", TODAY.plusDays(1))));
+
+        model.onTicketChange(event(Type.CLOSED, ticket(1, "HR")));
+
+        assertThat(model.listByDueDate(null, null, 10)).extracting(OpenTicketDue::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void ticketRestoredUnderAnotherModuleMovesBetweenModules() {
+        load(row(1, "HR", TODAY), row(2, "HR", TODAY.plusDays(1)));
+        when(repo.findOpenSlaKeysByIdIn(any())).thenReturn(rows(row(2, "FIN", TODAY.plusDays(1))));
+
+        model.onTicketChange(event(Type.RESTORED, ticket(2, "HR")));
+
+        assertThat(model.summary(7)).containsExactly(
+                new OpenTicketSummary("FIN", 1, 1, 0),
+                new OpenTicketSummary("HR", 1, 1, 0));
+    }
+
+    @Test
+    void importReloadsAndBreachEventsAreIgnored() {
+        load(row(1, "HR", TODAY));
+
+        model.onTicketChange(event(Type.BREACHED, ticket(1, "HR")));
+        model.onTicketChange(event(Type.BREACH_REASON, ticket(1, "HR")));
+        verify(repo, never()).findOpenSlaKeysByIdIn(any());
+
+        when(repo.findOpenSlaKeys()).thenReturn(rows(row(1, "HR", TODAY), row(7, "OPS", TODAY)));
+        model.onTicketChange(new TicketChangeEvent(Type.IMPORTED, List.of()));
+
+        assertThat(model.size()).isEqualTo(2);
+    }
+
+    // Helper: Replace the model's contents with the given open-ticket rows
+    private void load(Object[]... rows) {
+        when(repo.findOpenSlaKeys()).thenReturn(rows(rows));
+        model.reload();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    // Row shape of findOpenSlaKeys: { id, ticketId, module, slaDueDate, dateLogged }
+    private static Object[] row(long id, String module, LocalDate slaDueDate) {
+        return row(id, module, slaDueDate, slaDueDate != null ? slaDueDate.minusDays(TicketService.SLA_DAYS) : null);
+    }
+
+    private static Object[] row(long id, String module, LocalDate slaDueDate, LocalDate dateLogged) {
+        return new Object[] {id, "INC-" + id, module, slaDueDate, dateLogged};
+    }
+
+    private static Ticket ticket(long id, String module) {
+        Ticket ticket = new Ticket();
+        ReflectionTestUtils.setField(ticket, "id", id);
+        ticket.setModule(module);
+        return ticket;
+    }
+
+    private static TicketChangeEvent event(Type type, Ticket ticket) {
+        return new TicketChangeEvent(type, List.of(ticket));
+    }
+}
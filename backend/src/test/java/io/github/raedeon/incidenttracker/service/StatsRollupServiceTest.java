@@ -0,0 +1,132 @@
+// This file tests the counter deltas the stats rollup applies for each kind of ticket change.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketSnapshot;
+import io.github.raedeon.incidenttracker.model.StatMetric;
+import io.github.raedeon.incidenttracker.repository.DailyTicketStatRepository;
+import io.github.raedeon.incidenttracker.service.StatsRollupService.StatKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StatsRollupServiceTest {
+
+    private static final LocalDate LOGGED = LocalDate.of(2025, 6, 2);
+    private static final LocalDate CLOSED = LocalDate.of(2025, 6, 9);
+    private static final LocalDate BREACHED = LocalDate.of(2025, 6, 8);
+
+    private static final TicketSnapshot OPEN = new TicketSnapshot(LOGGED, "HR", "Open", null, null);
+    private static final TicketSnapshot OPEN_BREACHED = new TicketSnapshot(LOGGED, "HR", "Open", null, BREACHED);
+    private static final TicketSnapshot CLOSED_BREACHED = new TicketSnapshot(LOGGED, "HR", "Closed", CLOSED, BREACHED);
+
+    @Mock
+    private DailyTicketStatRepository statRepo;
+
+    @Mock
+    private IncidentStatsCache statsCache;
+
+    @InjectMocks
+    private StatsRollupService rollup;
+
+    @Test
+    void addCountsRaisedAndOpenOnTheDayLogged() {
+        assertThat(deltas(null, OPEN)).containsOnly(
+                entry(key(LOGGED, "HR", StatMetric.RAISED), 1L),
+                entry(key(LOGGED, "HR", StatMetric.OPEN), 1L));
+    }
+
+    @Test
+    void closeMovesTheTicketFromOpenToClosedOnTheDayClosed() {
+        assertThat(deltas(OPEN_BREACHED, CLOSED_BREACHED)).containsOnly(
+                entry(key(LOGGED, "HR", StatMetric.OPEN), -1L),
+                entry(key(CLOSED, "HR", StatMetric.CLOSED), 1L));
+    }
+
+    @Test
+    void reopenReversesTheClose() {
+        assertThat(deltas(CLOSED_BREACHED, OPEN_BREACHED)).containsOnly(
+                entry(key(LOGGED, "HR", StatMetric.OPEN), 1L),
+                entry(key(CLOSED, "HR", StatMetric.CLOSED), -1L));
+    }
+
+    @Test
+    void deleteRemovesEveryCounterTheTicketCountedTowards() {
+        assertThat(deltas(CLOSED_BREACHED, null)).containsOnly(
+                entry(key(LOGGED, "HR", StatMetric.RAISED), -1L),
+                entry(key(LOGGED, "HR", StatMetric.BREACHED), -1L),
+                entry(key(CLOSED, "HR", StatMetric.CLOSED), -1L));
+    }
+
+    @Test
+    void breachCountsOnTheDayLogged() {
+        assertThat(deltas(OPEN, OPEN_BREACHED)).containsOnly(entry(key(LOGGED, "HR", StatMetric.BREACHED), 1L));
+    }
+
+    @Test
+    void ticketsWithoutAModuleOrDateLoggedCountOnlyWhereTheyCan() {
+        TicketSnapshot noModule = new TicketSnapshot(LOGGED, null, "Open", null, null);
+        TicketSnapshot noDateLogged = new TicketSnapshot(null, "HR", "Closed", CLOSED, BREACHED);
+
+        assertThat(deltas(null, noModule)).containsOnlyKeys(
+                key(LOGGED, "", StatMetric.RAISED), key(LOGGED, "", StatMetric.OPEN));
+        assertThat(deltas(null, noDateLogged)).containsOnly(entry(key(CLOSED, "HR", StatMetric.CLOSED), 1L));
+    }
+
+    @Test
+    void recordChangeWritesOnlyCountersThatChanged() {
+        rollup.recordChange(OPEN_BREACHED, CLOSED_BREACHED);
+
+        verify(statRepo).increment(LOGGED, "HR", "OPEN", -1L);
+        verify(statRepo).increment(CLOSED, "HR", "CLOSED", 1L);
+        verifyNoMoreInteractions(statRepo);
+        verify(statsCache).invalidate();
+    }
+
+    @Test
+    void recordChangeWithoutAnyDifferenceLeavesTheCacheAlone() {
+        rollup.recordChange(OPEN, OPEN);
+
+        verifyNoInteractions(statRepo, statsCache);
+    }
+
+    @Test
+    void recordBreachedAddsTheBulkCountsAndSkipsTicketsWithoutDateLogged() {
+        rollup.recordBreached(List.of(
+                new Object[] {LOGGED, "HR", 3L},
+                new Object[] {LOGGED, null, 2L},
+                new Object[] {null, "HR", 5L}));
+
+        verify(statRepo).increment(LOGGED, "HR", "BREACHED", 3L);
+        verify(statRepo).increment(LOGGED, "", "BREACHED", 2L);
+        verifyNoMoreInteractions(statRepo);
+        verify(statsCache).invalidate();
+    }
+
+    // Helper: Net deltas for one ticket going from before to after, without the zero entries that cancel out
+    private static Map<StatKey, Long> deltas(TicketSnapshot before, TicketSnapshot after) {
+        Map<StatKey, Long> deltas = new HashMap<>();
+        StatsRollupService.addContributions(before, -1, deltas);
+        StatsRollupService.addContributions(after, 1, deltas);
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private static StatKey key(LocalDate day, String module, StatMetric metric) {
+        return new StatKey(day, module, metric);
+    }
+}
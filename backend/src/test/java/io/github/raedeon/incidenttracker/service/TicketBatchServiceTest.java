@@ -0,0 +1,112 @@
+// This file tests which tickets the batch operations change and the values they write.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.BatchResult;
+import io.github.raedeon.incidenttracker.dto.TicketKey;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketBatchServiceTest {
+
+    private static final LocalDate LOGGED = LocalDate.of(2025, 6, 2);
+
+    @Mock
+    private TicketRepository repo;
+
+    @Mock
+    private StatsRollupService rollup;
+
+    @Mock
+    private TicketArchiveService archive;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @InjectMocks
+    private TicketBatchService batch;
+
+    @BeforeEach
+    void limitBatchSize() {
+        ReflectionTestUtils.setField(batch, "maxBatchSize", 10);
+    }
+
+    @Test
+    void closeOfATicketClosedOnAnotherDateMovesItsCloseDate() {
+        when(repo.lockByTicketIds(any())).thenReturn(List.of(closed(1, "INC-1", LocalDate.of(2025, 6, 9))));
+
+        BatchResult result = batch.closeTickets(List.of(new TicketKey("INC-1", "HR")), "2025-06-10");
+
+        verify(repo).closeAll(List.of(1L), LocalDate.of(2025, 6, 10));
+        assertThat(result.items()).singleElement().satisfies(item -> {
+            assertThat(item.outcome()).isEqualTo(BatchResult.Outcome.UPDATED);
+            assertThat(item.ticket().dayClosed()).isEqualTo(LocalDate.of(2025, 6, 10));
+        });
+    }
+
+    @Test
+    void closeOfATicketClosedOnTheSameDateChangesNothing() {
+        when(repo.lockByTicketIds(any())).thenReturn(List.of(closed(1, "INC-1", LocalDate.of(2025, 6, 9))));
+
+        BatchResult result = batch.closeTickets(List.of(new TicketKey("INC-1", "HR")), "2025-06-09");
+
+        verify(repo, never()).closeAll(anyList(), any());
+        assertThat(result.items()).singleElement()
+                .extracting(BatchResult.Item::outcome).isEqualTo(BatchResult.Outcome.UNCHANGED);
+    }
+
+    @Test
+    void breachReasonIsCleanedAsForASingleTicket() {
+        when(repo.lockByTicketIds(any())).thenReturn(List.of(closed(1, "INC-1", LocalDate.of(2025, 6, 9))));
+
+        BatchResult result = batch.updateBreachReasons(List.of(new TicketKey("INC-1", "HR")), "\"Vendor\" outage");
+
+        verify(repo).updateBreachReasonAll(List.of(1L), "Vendor outage");
+        assertThat(result.items()).singleElement()
+                .satisfies(item -> assertThat(item.ticket().breachReason()).isEqualTo("Vendor outage"));
+    }
+
+    @Test
+    void breachReasonMatchingTheCleanedValueChangesNothing() {
+        Ticket ticket = closed(1, "INC-1", LocalDate.of(2025, 6, 9));
+        ticket.setBreachReason("Vendor outage");
+        when(repo.lockByTicketIds(any())).thenReturn(List.of(ticket));
+
+        BatchResult result = batch.updateBreachReasons(List.of(new TicketKey("INC-1", "HR")), "\"Vendor\" outage");
+
+        verify(repo, never()).updateBreachReasonAll(anyList(), any());
+        assertThat(result.items()).singleElement()
+                .extracting(BatchResult.Item::outcome).isEqualTo(BatchResult.Outcome.UNCHANGED);
+    }
+
+    private static Ticket closed(long id, String ticketId, LocalDate dayClosed) {
+        Ticket ticket = new Ticket();
+        ReflectionTestUtils.setField(ticket, "id", id); // No setter: assigned by the database
+        ticket.setTicketId(ticketId);
+        ticket.setModule("HR");
+        ticket.setDateLogged(LOGGED);
+        ticket.setSlaDueDate(LOGGED.plusDays(TicketService.SLA_DAYS));
+        ticket.setStatus("Closed");
+        ticket.setDayClosed(dayClosed);
+        return ticket;
+    }
+}
@@ -0,0 +1,228 @@
+// This file tests event delivery, Last-Event-ID replay, resync and slow-client handling in the ticket change feed.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent.Type;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// Streams are opened through a minimal endpoint so each emitter writes to a real (mock) servlet response, and the
+// test reads what a client would have received
+class TicketChangeFeedTest {
+
+    private static final int HISTORY_SIZE = 8;
+    private static final int CLIENT_BUFFER = 4;
+
+    private static final Pattern EVENT = Pattern.compile("id:(\\d+)\nevent:(\\w+)|event:(\\w+)\nid:(\\d+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TicketChangeFeed feed = new TicketChangeFeed(Jackson2ObjectMapperBuilder.json().build(), meterRegistry,
+            HISTORY_SIZE, CLIENT_BUFFER, Duration.ofMinutes(1), 2, 8, Duration.ofSeconds(10));
+
+    private final EventsEndpoint endpoint = new EventsEndpoint();
+
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(endpoint).build();
+
+    // Serves the feed the way TicketController does, remembering the last emitter handed out
+    @RestController
+    class EventsEndpoint {
+        volatile SseEmitter last;
+
+        @GetMapping("/events")
+        SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            last = feed.subscribe(lastEventId);
+            return last;
+        }
+    }
+
+    // One event as received by a client
+    private record Received(String name, long id) {}
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void sendsEachChangeToEverySubscriberInOrder() throws Exception {
+        MockHttpServletResponse first = open(null);
+        MockHttpServletResponse second = open(null);
+
+        publish(3);
+
+        for (MockHttpServletResponse response : List.of(first, second)) {
+            List<Received> events = awaitEvents(response, 3);
+            assertThat(events).extracting(Received::name).containsOnly("ticket");
+            assertThat(events).extracting(Received::id).isSorted().doesNotHaveDuplicates();
+            assertThat(response.getContentAsString()).contains("\"type\":\"CLOSED\"", "\"ticketId\":\"INC-1\"");
+        }
+        assertThat(feed.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void replaysTheBacklogAfterTheLastEventId() throws Exception {
+        MockHttpServletResponse watcher = open(null);
+        publish(3);
+        List<Received> published = awaitEvents(watcher, 3);
+
+        MockHttpServletResponse resumed = open(Long.toString(published.get(0).id()));
+        publish(1);
+
+        List<Received> events = awaitEvents(resumed, 3);
+        assertThat(events.subList(0, 2)).isEqualTo(published.subList(1, 3));
+        assertThat(events.get(2).name()).isEqualTo("ticket");
+        assertThat(events.get(2).id()).isGreaterThan(published.get(2).id());
+    }
+
+    @Test
+    void sendsNothingExtraToAClientThatIsUpToDate() throws Exception {
+        MockHttpServletResponse watcher = open(null);
+        publish(2);
+        long lastId = awaitEvents(watcher, 2).get(1).id();
+
+        MockHttpServletResponse resumed = open(Long.toString(lastId));
+        publish(1);
+
+        assertThat(awaitEvents(resumed, 1)).singleElement().satisfies(event -> {
+            assertThat(event.name()).isEqualTo("ticket");
+            assertThat(event.id()).isGreaterThan(lastId);
+        });
+    }
+
+    @Test
+    void asksForAResyncWhenTheLastEventIdCannotBeReplayed() throws Exception {
+        List<Received> published = publishWatched(open(null), HISTORY_SIZE + 2);
+        long lastId = published.get(published.size() - 1).id();
+
+        // Evicted from the history, never issued, not a number, and a backlog larger than the client buffer
+        for (String lastEventId : List.of(Long.toString(published.get(0).id()), Long.toString(lastId + 1), "abc",
+                Long.toString(published.get(2).id()))) {
+            MockHttpServletResponse response = open(lastEventId);
+            assertThat(awaitEvents(response, 1)).as("Last-Event-ID %s", lastEventId)
+                    .containsExactly(new Received("resync", lastId));
+        }
+    }
+
+    @Test
+    void dropsAClientWhoseBufferOverflowsAndResyncsItOnReconnect() throws Exception {
+        MvcResult stalled = openStream(null);
+        SseEmitter stalledEmitter = endpoint.last;
+        MockHttpServletResponse healthy = open(null);
+
+        // ResponseBodyEmitter.send is synchronized, so holding the emitter's lock stalls its sender thread
+        // mid-send, like a client that stopped reading. One entry can be in that send and CLIENT_BUFFER more
+        // can wait, so the next one overflows.
+        List<Received> published;
+        synchronized (stalledEmitter) {
+            published = publishWatched(healthy, CLIENT_BUFFER + 2);
+            assertThat(feed.subscriberCount()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("incident.events.dropped").gauge().value()).isEqualTo(1);
+
+        // The stalled stream is completed once its send returns; at most that one entry got through
+        stalled.getAsyncResult(5_000);
+        List<Received> received = events(stalled.getResponse());
+        assertThat(received).hasSizeLessThanOrEqualTo(1);
+
+        // It missed more than its buffer holds, so reconnecting from its last event ID asks it to resync
+        long lastReceived = received.isEmpty() ? published.get(0).id() - 1 : received.get(0).id();
+        MockHttpServletResponse resumed = open(Long.toString(lastReceived));
+        assertThat(awaitEvents(resumed, 1))
+                .containsExactly(new Received("resync", published.get(published.size() - 1).id()));
+    }
+
+    // Helper: Open a stream, optionally resuming after the given event ID
+    private MockHttpServletResponse open(String lastEventId) throws Exception {
+        return openStream(lastEventId).getResponse();
+    }
+
+    private MvcResult openStream(String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder events = get("/events");
+        if (lastEventId != null) {
+            events.header("Last-Event-ID", lastEventId);
+        }
+        return mvc.perform(events).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    // Helper: Publish the given number of CLOSED events for tickets INC-1, INC-2, ...
+    private void publish(int count) {
+        for (int i = 1; i <= count; i++) {
+            Ticket ticket = new Ticket();
+            ReflectionTestUtils.setField(ticket, "id", (long) i);
+            ticket.setTicketId("INC-" + i);
+            ticket.setModule("HR");
+            feed.onTicketChange(new TicketChangeEvent(Type.CLOSED, List.of(ticket)));
+        }
+    }
+
+    // Helper: Publish events one at a time, each once the watcher has received the one before, so the watcher's
+    // own buffer never fills; returns the events as the watcher received them
+    private List<Received> publishWatched(MockHttpServletResponse watcher, int count) {
+        int before = events(watcher).size();
+        for (int i = 1; i <= count; i++) {
+            publish(1);
+            awaitEvents(watcher, before + i);
+        }
+        return events(watcher).subList(before, before + count);
+    }
+
+    // Helper: Wait until the response holds at least the given number of events and return them
+    private static List<Received> awaitEvents(MockHttpServletResponse response, int count) {
+        await(() -> events(response).size() >= count);
+        return events(response);
+    }
+
+    private static List<Received> events(MockHttpServletResponse response) {
+        String body;
+        try {
+            body = response.getContentAsString();
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        List<Received> events = new ArrayList<>();
+        Matcher matcher = EVENT.matcher(body);
+        while (matcher.find()) {
+            events.add(matcher.group(1) != null
+                    ? new Received(matcher.group(2), Long.parseLong(matcher.group(1)))
+                    : new Received(matcher.group(3), Long.parseLong(matcher.group(4))));
+        }
+        return events;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for the feed");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
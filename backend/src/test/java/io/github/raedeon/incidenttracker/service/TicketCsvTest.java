@@ -0,0 +1,72 @@
+// This file tests the CSV field splitting and row writing shared by the bulk import and export.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketCsvTest {
+
+    @Test
+    void splitsAndTrimsPlainFields() {
+        assertThat(TicketCsv.parseLine("INC-1, HR ,2025-06-18")).containsExactly("INC-1", "HR", "2025-06-18");
+    }
+
+    @Test
+    void keepsEmptyFields() {
+        assertThat(TicketCsv.parseLine(",a,,")).containsExactly("", "a", "", "");
+    }
+
+    @Test
+    void readsQuotedFieldsWithCommasEscapedQuotesAndLineBreaks() {
+        assertThat(TicketCsv.parseLine("INC-1,\"Vendor, late\",\"said \"\"soon\"\"\",\"line one\nline two\""))
+                .containsExactly("INC-1", "Vendor, late", "said \"soon\"", "line one\nline two");
+    }
+
+    @Test
+    void rejectsAnUnterminatedQuotedField() {
+        assertThatThrownBy(() -> TicketCsv.parseLine("INC-1,\"never closed"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field");
+    }
+
+    @Test
+    void togglesQuoteOnlyForAnOddNumberOfQuotes() {
+        assertThat(TicketCsv.togglesQuote("INC-1,HR,plain")).isFalse();
+        assertThat(TicketCsv.togglesQuote("INC-1,\"closed\",\"said \"\"hi\"\"\"")).isFalse();
+        assertThat(TicketCsv.togglesQuote("INC-1,HR,\"opens here")).isTrue();
+        assertThat(TicketCsv.togglesQuote("closes here\",Open")).isTrue();
+    }
+
+    @Test
+    void writesNullsAsEmptyFieldsAndQuotesOnlyWhenNeeded() throws IOException {
+        TicketView ticket = new TicketView(5L, "INC-5", "HR", LocalDate.of(2025, 6, 18), 3, null, "Open", null, null,
+                "Waiting on \"vendor\", again\nsee notes");
+        StringBuilder out = new StringBuilder();
+
+        TicketCsv.writeRow(out, ticket);
+
+        assertThat(out).hasToString("5,INC-5,HR,2025-06-18,,3,Open,,,\"Waiting on \"\"vendor\"\", again\nsee notes\"");
+    }
+
+    @Test
+    void readsBackWhatItWrites() throws IOException {
+        TicketView ticket = new TicketView(9L, "INC-9", "FIN", LocalDate.of(2025, 1, 2), 0, LocalDate.of(2025, 1, 7),
+                "Closed", LocalDate.of(2025, 1, 9), LocalDate.of(2025, 1, 8), "a, \"b\"\r\nc");
+        StringBuilder out = new StringBuilder();
+
+        TicketCsv.writeRow(out, ticket);
+        List<String> fields = TicketCsv.parseLine(out.toString());
+
+        assertThat(fields).hasSize(TicketCsv.EXPORT_COLUMNS.size());
+        assertThat(fields.get(TicketCsv.EXPORT_COLUMNS.indexOf("slaDueDate"))).isEqualTo("2025-01-07");
+        assertThat(fields.get(TicketCsv.EXPORT_COLUMNS.indexOf("breachReason"))).isEqualTo("a, \"b\"\r\nc");
+    }
+}
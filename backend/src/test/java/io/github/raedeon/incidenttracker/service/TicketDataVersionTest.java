@@ -0,0 +1,110 @@
+// This file tests that ETags follow committed ticket writes, including writes made through another instance.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.LabelCount;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Another instance is simulated by writing to the database directly, as its transactions would: the rows and
+// the data version change, but no event reaches this process.
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.devtools.restart.enabled=false",
+        "spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/unused",
+        "incident.archive.cron=-",
+        "logging.level.root=WARN"
+})
+class TicketDataVersionTest {
+
+    private static final EmbeddedPostgres postgres = start();
+
+    private static final String VARIANT = "/api/tickets?null";
+
+    @Autowired
+    private TicketDataVersion dataVersion;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Test
+    void committedWriteChangesTheETag() {
+        String before = dataVersion.etag(VARIANT);
+
+        ticketService.addTicket(ticket("INC-1"));
+
+        assertThat(dataVersion.etag(VARIANT)).isNotEqualTo(before);
+    }
+
+    @Test
+    void rolledBackWriteKeepsTheETag() {
+        String before = dataVersion.etag(VARIANT);
+
+        tx.executeWithoutResult(status -> {
+            ticketService.addTicket(ticket("INC-2"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(dataVersion.etag(VARIANT)).isEqualTo(before);
+    }
+
+    @Test
+    void statsCachedBeforeAnotherInstancesWriteAreNotReused() {
+        Map<String, List<LabelCount>> before = ticketService.getIncidentStats("daily");
+        String etagBefore = dataVersion.etag(VARIANT);
+
+        tx.executeWithoutResult(status -> {
+            jdbc.update("INSERT INTO daily_ticket_stat (day, module, metric, ticket_count) VALUES (?, 'OPS', 'RAISED', 1) "
+                    + "ON CONFLICT (day, module, metric) DO UPDATE SET ticket_count = daily_ticket_stat.ticket_count + 1",
+                    LocalDate.now().minusDays(40));
+            jdbc.update("UPDATE ticket_data_version SET version = version + 1");
+        });
+
+        assertThat(dataVersion.etag(VARIANT)).isNotEqualTo(etagBefore);
+        assertThat(ticketService.getIncidentStats("daily")).isNotEqualTo(before);
+    }
+
+    private static Ticket ticket(String ticketId) {
+        Ticket ticket = new Ticket();
+        ticket.setTicketId(ticketId);
+        ticket.setModule("HR");
+        ticket.setDateLogged(LocalDate.now());
+        return ticket;
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start(); // Stopped by its own shutdown hook
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+// This file tests how the bulk import reads CSV and NDJSON records, validates them and reports rejected lines.
+
+package io.github.raedeon.incidenttracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.raedeon.incidenttracker.dto.ImportResult;
+import io.github.raedeon.incidenttracker.dto.ImportResult.RowError;
+import io.github.raedeon.incidenttracker.dto.TicketChangeEvent;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// The database side is mocked: the transaction runs its callback directly and persisted tickets are collected
+@ExtendWith(MockitoExtension.class)
+class TicketImportServiceTest {
+
+    @Mock
+    private TicketRepository repo;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private StatsRollupService rollup;
+
+    @Spy
+    private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private TransactionTemplate tx;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private TicketImportService service;
+
+    private final List<Ticket> persisted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        lenient().when(tx.execute(any())).thenAnswer(call ->
+                call.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        lenient().doAnswer(call -> persisted.add(call.getArgument(0))).when(entityManager).persist(any(Ticket.class));
+    }
+
+    @Test
+    void importsCsvColumnsInHeaderOrderWithDefaults() throws IOException {
+        ImportResult result = service.importCsv(input("""
+                \uFEFFmodule,ticketId,extra,status,dayClosed,dateLogged
+                HR, INC-1 ,ignored,closed,2025-06-20,2025-06-18
+                FIN,INC-2,,,,2025-06-19
+                OPS,INC-3,,,,
+                """));
+
+        assertThat(result.rowsRead()).isEqualTo(3);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isZero();
+        assertThat(persisted).extracting(Ticket::getTicketId, Ticket::getModule, Ticket::getStatus, Ticket::getDayClosed)
+                .containsExactly(
+                        tuple("INC-1", "HR", "Closed", LocalDate.of(2025, 6, 20)),
+                        tuple("INC-2", "FIN", "Open", null),
+                        tuple("INC-3", "OPS", "Open", null));
+        assertThat(persisted.get(2).getDateLogged()).isEqualTo(LocalDate.now());
+        persisted.forEach(t -> verify(ticketService).initSla(t));
+        verify(events).publishEvent(new TicketChangeEvent(TicketChangeEvent.Type.IMPORTED, List.of()));
+    }
+
+    @Test
+    void readsQuotedFieldsAcrossLinesAndReportsErrorsByStartLine() throws IOException {
+        ImportResult result = service.importCsv(input(
+                "ticketId,module,status,dayClosed,breachReason\r\n" +
+                "INC-1,HR,Closed,2025-06-18,\"first, line\r\n" +
+                "second \"\"quoted\"\" line\"\r\n" +
+                "INC-2,HR,Closed,,no close date\r\n" +
+                "\r\n" +
+                "INC-3,,Open,,\r\n" +
+                "INC-4,FIN,Pending,,\r\n" +
+                "INC-5,FIN,Open,not-a-date,\r\n"));
+
+        assertThat(persisted).singleElement().satisfies(t -> {
+            assertThat(t.getTicketId()).isEqualTo("INC-1");
+            assertThat(t.getBreachReason()).isEqualTo("first, line\nsecond \"quoted\" line");
+        });
+        assertThat(result.rowsRead()).isEqualTo(5);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.errors()).extracting(RowError::line).containsExactly(4L, 6L, 7L, 8L);
+        assertThat(result.errors()).extracting(RowError::message).startsWith(
+                "dayClosed is required for Closed tickets", "module is required", "Invalid status: Pending");
+    }
+
+    @Test
+    void rejectsAQuotedFieldLeftOpenAtTheEndOfTheInput() throws IOException {
+        ImportResult result = service.importCsv(input("ticketId,module,breachReason\nINC-1,HR,\"never\nclosed\n"));
+
+        assertThat(result.errors()).containsExactly(new RowError(2, "Unterminated quoted field"));
+        assertThat(result.imported()).isZero();
+        verifyNoInteractions(tx, events);
+    }
+
+    @Test
+    void reportsDuplicatesWithinTheFileAndAlreadyStored() throws IOException {
+        // Stands in for the table: tickets stored before the import plus those written by earlier batches
+        when(repo.findExistingKeys(any())).thenAnswer(call -> {
+            List<Object[]> stored = new ArrayList<>();
+            stored.add(new Object[] {"INC-9", "HR"});
+            persisted.forEach(t -> stored.add(new Object[] {t.getTicketId(), t.getModule()}));
+            return stored;
+        });
+
+        ImportResult result = service.importCsv(input("""
+                ticketId,module
+                INC-1,HR
+                INC-1,FIN
+                INC-1,HR
+                INC-9,HR
+                """));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                new RowError(4, "Duplicate ticket HR INC-1"),
+                new RowError(5, "Duplicate ticket HR INC-9"));
+    }
+
+    @Test
+    void requiresTicketIdAndModuleInTheCsvHeader() {
+        assertThatThrownBy(() -> service.importCsv(input("ticketId,status\nINC-1,Open\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV header must include ticketId and module");
+    }
+
+    @Test
+    void importsNdjsonAsNewTicketsAndReportsBadLines() throws IOException {
+        ImportResult result = service.importNdjson(input("""
+                {"id": 99, "ticketId": "INC-1", "module": "HR", "dateLogged": "2025-06-18", "unknown": true}
+
+                {"ticketId": "INC-2", "module": "HR", "status": "Closed", "dayClosed": "2025-06-20"}
+                {"ticketId": "INC-3"
+                {"ticketId": "INC-4", "module": " "}
+                """));
+
+        assertThat(persisted).extracting(Ticket::getTicketId).containsExactly("INC-1", "INC-2");
+        assertThat(persisted.get(0).getId()).isNull();
+        assertThat(persisted.get(0).getDateLogged()).isEqualTo(LocalDate.of(2025, 6, 18));
+        assertThat(persisted.get(1).getDayClosed()).isEqualTo(LocalDate.of(2025, 6, 20));
+        assertThat(result.rowsRead()).isEqualTo(4);
+        assertThat(result.errors()).extracting(RowError::line).containsExactly(4L, 5L);
+        assertThat(result.errors().get(1).message()).isEqualTo("module is required");
+    }
+
+    private static InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+// This file tests how single-ticket writes find their ticket among live and archived ones.
+
+package io.github.raedeon.incidenttracker.service;
+
+import io.github.raedeon.incidenttracker.dto.TicketView;
+import io.github.raedeon.incidenttracker.model.Ticket;
+import io.github.raedeon.incidenttracker.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketServiceTest {
+
+    private static final LocalDate LOGGED = LocalDate.of(2025, 6, 2);
+
+    @Mock
+    private TicketRepository repo;
+
+    @Mock
+    private StatsRollupService rollup;
+
+    @Mock
+    private TicketArchiveService archive;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @InjectMocks
+    private TicketService service;
+
+    @Test
+    void liveTicketIsWrittenWithoutTouchingTheArchive() {
+        Ticket ticket = open(1, "INC-1", "HR");
+        when(repo.findByTicketIdAndModule("INC-1", "HR")).thenReturn(List.of(ticket));
+        when(repo.save(any(Ticket.class))).thenAnswer(call -> call.getArgument(0));
+
+        service.closeTicket("INC-1", "HR", "2025-06-09");
+
+        verify(archive, never()).restore(any(String.class), any());
+        assertThat(ticket.getDayClosed()).isEqualTo(LocalDate.of(2025, 6, 9));
+    }
+
+    @Test
+    void archivedTicketIsRestoredWhenNoLiveTicketMatches() {
+        Ticket ticket = open(1, "INC-1", "HR");
+        when(repo.findByTicketIdAndModule("INC-1", "HR")).thenReturn(List.of(), List.of(ticket));
+        when(archive.restore("INC-1", "HR")).thenReturn(1);
+        when(repo.save(any(Ticket.class))).thenAnswer(call -> call.getArgument(0));
+
+        assertThat(service.closeTicket("INC-1", "HR", null)).isSameAs(ticket);
+    }
+
+    @Test
+    void unknownTicketIsNotFound() {
+        assertThatThrownBy(() -> service.reopenTicket("INC-9", "HR"))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("No ticket INC-9 in module HR");
+    }
+
+    @Test
+    void idWithoutModuleIsAmbiguousWhenAlsoArchivedInAnotherModule() {
+        when(repo.lockByTicketIds(List.of("INC-1"))).thenReturn(List.of(open(1, "INC-1", "HR")));
+        when(archive.findArchived(List.of("INC-1"))).thenReturn(List.of(
+                new TicketView(2L, "INC-1", "FIN", LOGGED, 0, null, "Closed", LOGGED, null, null)));
+
+        assertThatThrownBy(() -> service.updateBreachReason("INC-1", null, "Vendor outage"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Ticket ID INC-1 exists in 2 modules; pass its module");
+    }
+
+    private static Ticket open(long id, String ticketId, String module) {
+        Ticket ticket = new Ticket();
+        ReflectionTestUtils.setField(ticket, "id", id); // No setter: assigned by the database
+        ticket.setTicketId(ticketId);
+        ticket.setModule(module);
+        ticket.setDateLogged(LOGGED);
+        ticket.setStatus("Open");
+        return ticket;
+    }
+}
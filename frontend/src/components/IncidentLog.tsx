@@ -1,26 +1,22 @@
 // This component generates a plain-text incident log similar to the original Python CLI version.
 
 import React, { useEffect, useState } from 'react';
-import { getTickets } from '../services/ticketService';
 import { Ticket } from '../types/ticket';
 
 interface IncidentLogProps {
-  refreshKey: number;
+  tickets: Ticket[]; // Kept current by the Dashboard
 }
 
-const IncidentLog: React.FC<IncidentLogProps> = ({ refreshKey }) => {
+const IncidentLog: React.FC<IncidentLogProps> = ({ tickets }) => {
   const [log, setLog] = useState<string>('');
   const [copied, setCopied] = useState<boolean>(false);
 
   useEffect(() => {
     generateLog();
-  }, [refreshKey]);
+  }, [tickets]);
 
-  const generateLog = async () => {
+  const generateLog = () => {
     try {
-      const response = await getTickets();
-      const tickets: Ticket[] = response.data;
-
       let openCount = 0;
       const days: string[][] = [[], [], [], [], [], [], []]; // SLA buckets: 0 = breached
 
@@ -2,20 +2,12 @@ import React, { useState, useEffect } from 'react';
 import { Line } from 'react-chartjs-2';
 import { fetchIncidentStats } from '../services/ticketService';
 import { ChartData, ChartDataset, ChartOptions } from 'chart.js';
+import { IncidentStatsColumns } from '../types/ticket';
 
 interface IncidentStatsProps {
   refreshKey: number;
 }
 
-interface StatPoint {
-  label: string;
-  count: number;
-}
-
-interface StatsResponse {
-  [key: string]: StatPoint[];
-}
-
 const TIME_RANGES = ['Daily', 'Weekly', 'Monthly'];
 
 const IncidentStats: React.FC<IncidentStatsProps> = ({ refreshKey }) => {
@@ -40,14 +32,9 @@ const IncidentStats: React.FC<IncidentStatsProps> = ({ refreshKey }) => {
     loadStats();
   }, [range, refreshKey]);
 
-  const formatChartData = (data: StatsResponse): ChartData<'line'> => {
-    const labelsSet: Set<string> = new Set();
-
-    Object.values(data).forEach((series) => {
-      series.forEach((point) => labelsSet.add(point.label));
-    });
-
-    const labels = Array.from(labelsSet).sort();
+  const formatChartData = (data: IncidentStatsColumns): ChartData<'line'> => {
+    // The columnar response is already aligned: one sorted label axis, one count per label per series
+    const labels = data.labels;
 
     const colors: Record<
       string,
@@ -59,14 +46,10 @@ const IncidentStats: React.FC<IncidentStatsProps> = ({ refreshKey }) => {
       Breached: { color: 'red', pointStyle: 'triangle' },
     };
 
-    const datasets: ChartDataset<'line'>[] = Object.keys(data).map((key) => {
-      const labelToCount: Record<string, number> = Object.fromEntries(
-        data[key].map((d) => [d.label, d.count])
-      );
-
+    const datasets: ChartDataset<'line'>[] = Object.entries(data.series).map(([key, counts]) => {
       return {
         label: `Number of ${key} Tickets`,
-        data: labels.map((date) => labelToCount[date] || 0),
+        data: counts,
         borderColor: colors[key]?.color || 'black',
         backgroundColor: colors[key]?.color || 'black',
         pointStyle: colors[key]?.pointStyle || 'circle',
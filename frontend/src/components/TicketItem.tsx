@@ -28,7 +28,7 @@ const TicketItem: React.FC<TicketItemProps> = ({ ticket, onClose, onReasonSaved
 
   const handleClose = async () => {
     try {
-      await closeTicket(ticket.ticketId, closeDate);
+      await closeTicket(ticket.ticketId, closeDate, ticket.module);
       onClose();
     } catch (err) {
       console.error('Error closing ticket:', err);
@@ -41,7 +41,7 @@ const TicketItem: React.FC<TicketItemProps> = ({ ticket, onClose, onReasonSaved
 
   const handleReasonUpdate = async () => {
     try {
-      await updateBreachReason(ticket.ticketId, localReason);
+      await updateBreachReason(ticket.ticketId, localReason, ticket.module);
       ticket.breachReason = localReason;
       setLocalReason('');
       if (onReasonSaved) onReasonSaved();
@@ -52,7 +52,7 @@ const TicketItem: React.FC<TicketItemProps> = ({ ticket, onClose, onReasonSaved
 
   const handleReopen = async () => {
     try {
-      await reopenTicket(ticket.ticketId);
+      await reopenTicket(ticket.ticketId, ticket.module);
       onClose();
     } catch (err) {
       console.error('Error reopening ticket:', err);
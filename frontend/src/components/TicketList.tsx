@@ -1,44 +1,32 @@
-// This component fetches and displays all tickets using TicketItem.
+// This component displays all tickets using TicketItem.
 
-import React, { useEffect, useState } from 'react'; // useEffect for fetching, useState for storing tickets
-import { getTickets } from '../services/ticketService'; // API to get tickets
+import React, { useMemo } from 'react'; // useMemo to avoid re-sorting on unrelated renders
 import TicketItem from './TicketItem'; // Component to render each ticket
 import { Ticket } from '../types/ticket';
 
 // Props accepted by TicketList
 interface TicketListProps {
+  tickets: Ticket[]; // Kept current by the Dashboard
   onCloseSuccess?: () => void;
 }
 
-const TicketList: React.FC<TicketListProps> = ({ onCloseSuccess }) => {
-  const [tickets, setTickets] = useState<Ticket[]>([]); // State to hold all tickets
-
-  const fetchTickets = () => {
-    getTickets()
-      .then((res) => {
-        const sorted = [...res.data].sort((a: Ticket, b: Ticket) => {
-          // First, sort by status: Open before Closed
-          if (a.status === 'Open' && b.status !== 'Open') return -1;
-          if (a.status !== 'Open' && b.status === 'Open') return 1;
-
-          // Then, sort by dateLogged (oldest to newest)
-          const dateA = new Date(a.dateLogged).getTime();
-          const dateB = new Date(b.dateLogged).getTime();
-          return dateA - dateB;
-        });
-
-        setTickets(sorted);
-      })
-      .catch((err) => console.error('Error fetching:', err));
-  };
-
-  useEffect(() => {
-    fetchTickets(); // Initial load
-  }, []);
+const TicketList: React.FC<TicketListProps> = ({ tickets: allTickets, onCloseSuccess }) => {
+  const tickets = useMemo(
+    () =>
+      [...allTickets].sort((a: Ticket, b: Ticket) => {
+        // First, sort by status: Open before Closed
+        if (a.status === 'Open' && b.status !== 'Open') return -1;
+        if (a.status !== 'Open' && b.status === 'Open') return 1;
+
+        // Then, sort by dateLogged (oldest to newest)
+        const dateA = new Date(a.dateLogged).getTime();
+        const dateB = new Date(b.dateLogged).getTime();
+        return dateA - dateB;
+      }),
+    [allTickets]
+  );
 
-  const handleClose = async (id: string) => {
-    await fetch(`/api/tickets/close/${id}`, { method: 'PUT' });
-    fetchTickets();
+  const handleClose = () => {
     onCloseSuccess?.();
   };
 
@@ -56,7 +44,7 @@ const TicketList: React.FC<TicketListProps> = ({ onCloseSuccess }) => {
             <TicketItem
               key={ticket.id}
               ticket={ticket}
-              onClose={() => handleClose(ticket.ticketId)}
+              onClose={handleClose}
               onReasonSaved={onCloseSuccess}
             />
           ))}
@@ -1,17 +1,53 @@
-import React, { useState } from 'react';
+import React, { useCallback, useEffect, useRef, useState } from 'react';
 import AddTicketForm from '../components/AddTicketForm';
 import TicketList from '../components/TicketList';
 import IncidentLog from '../components/IncidentLog';
 import IncidentStats from '../components/IncidentStats';
 import Navbar from '../components/NavBar';
 import { getUserRole } from '../auth/tokenUtils';
+import { getTickets } from '../services/ticketService';
+import { applyTicketEvent, subscribeToTicketEvents } from '../services/ticketEvents';
+import { Ticket } from '../types/ticket';
 
 const Dashboard: React.FC = () => {
   const role = getUserRole();
 
+  // Tickets are fetched once and then kept current by the server-sent change feed
+  const [tickets, setTickets] = useState<Ticket[]>([]);
   const [refreshKey, setRefreshKey] = useState<number>(0);
+  const streamConnected = useRef<boolean>(false);
 
-  const handleRefresh = (): void => setRefreshKey((prev) => prev + 1);
+  const loadTickets = useCallback((): void => {
+    getTickets()
+      .then((res) => setTickets(res.data))
+      .catch((err) => console.error('Error fetching:', err));
+  }, []);
+
+  useEffect(() => {
+    loadTickets(); // Initial load
+
+    return subscribeToTicketEvents({
+      onEvent: (event) => {
+        setTickets((prev) => applyTicketEvent(prev, event));
+        setRefreshKey((prev) => prev + 1); // Stats are cached server-side, so a refetch is cheap
+      },
+      onResync: () => {
+        loadTickets();
+        setRefreshKey((prev) => prev + 1);
+      },
+      onStatusChange: (connected) => {
+        streamConnected.current = connected;
+      },
+    });
+  }, [loadTickets]);
+
+  // After a local change the feed delivers the update; only reload if the feed is down
+  const handleRefresh = (): void => {
+    if (!streamConnected.current) {
+      loadTickets();
+      setRefreshKey((prev) => prev + 1);
+    }
+  };
 
   return (
     <div className="page-wrapper">
@@ -38,8 +74,8 @@ const Dashboard: React.FC = () => {
 
         {/* Bottom row: Ticket list + Incident log */}
         <div className="responsive-grid">
-          <TicketList key={refreshKey} onCloseSuccess={handleRefresh} />
-          <IncidentLog refreshKey={refreshKey} />
+          <TicketList tickets={tickets} onCloseSuccess={handleRefresh} />
+          <IncidentLog tickets={tickets} />
         </div>
       </main>
       <footer className="text-center text-sm text-gray-500 py-4">
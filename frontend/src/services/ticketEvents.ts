@@ -0,0 +1,119 @@
+// This file subscribes to the backend's server-sent ticket change feed.
+// EventSource cannot send the Authorization header, so the stream is read with fetch instead.
+
+import API from '../utils/axiosSetup';
+import { Ticket, TicketEvent } from '../types/ticket';
+
+interface TicketEventHandlers {
+  onEvent: (event: TicketEvent) => void; // A ticket change to apply locally
+  onResync: () => void; // Events were missed (or a bulk import happened); reload everything
+  onStatusChange?: (connected: boolean) => void;
+}
+
+const MAX_RETRY_DELAY_MS = 30000;
+
+// Opens the stream and keeps it open, resuming from the last event ID after a disconnect.
+// Returns a function that closes the stream.
+export const subscribeToTicketEvents = (handlers: TicketEventHandlers): (() => void) => {
+  const controller = new AbortController();
+  let lastEventId: string | null = null;
+  let retryDelay = 1000;
+
+  const dispatch = (name: string, data: string) => {
+    if (name === 'resync') {
+      handlers.onResync();
+      return;
+    }
+    const event: TicketEvent = JSON.parse(data);
+    if (event.type === 'IMPORTED') {
+      handlers.onResync();
+    } else {
+      handlers.onEvent(event);
+    }
+  };
+
+  // Parses one "id:/event:/data:" block; lines starting with ':' are keep-alive comments
+  const handleBlock = (block: string) => {
+    let name = 'message';
+    const data: string[] = [];
+    for (const line of block.split('\n')) {
+      if (line.startsWith(':')) continue;
+      const sep = line.indexOf(':');
+      const field = sep === -1 ? line : line.slice(0, sep);
+      const value = sep === -1 ? '' : line.slice(sep + 1).replace(/^ /, '');
+      if (field === 'id') lastEventId = value;
+      else if (field === 'event') name = value;
+      else if (field === 'data') data.push(value);
+    }
+    if (data.length > 0) dispatch(name, data.join('\n'));
+  };
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers: Record<string, string> = { Accept: 'text/event-stream' };
+        const token = localStorage.getItem('jwt');
+        if (token) headers.Authorization = `Bearer ${token}`;
+        if (lastEventId) headers['Last-Event-ID'] = lastEventId;
+
+        const response = await fetch(`${API.defaults.baseURL}/tickets/events`, {
+          headers,
+          signal: controller.signal,
+        });
+
+        // Same handling as the Axios interceptor: an invalid token logs the user out
+        if (response.status === 401) {
+          localStorage.removeItem('jwt');
+          window.location.href = '/login';
+          return;
+        }
+        if (!response.ok || !response.body) {
+          throw new Error(`Event stream failed with status ${response.status}`);
+        }
+
+        handlers.onStatusChange?.(true);
+
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n');
+          let end: number;
+          while ((end = buffer.indexOf('\n\n')) !== -1) {
+            retryDelay = 1000; // Back off only while the server keeps closing streams without sending anything
+            handleBlock(buffer.slice(0, end));
+            buffer = buffer.slice(end + 2);
+          }
+        }
+      } catch (err) {
+        if (controller.signal.aborted) return;
+        console.error('Ticket event stream error:', err);
+      }
+
+      handlers.onStatusChange?.(false);
+      await new Promise((resolve) => setTimeout(resolve, retryDelay));
+      retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
+
+// Applies one change event to a list of tickets, returning a new list
+export const applyTicketEvent = (tickets: Ticket[], event: TicketEvent): Ticket[] => {
+  const changed = new Map(event.tickets.map((t) => [t.id, t]));
+
+  if (event.type === 'DELETED' || event.type === 'ARCHIVED') {
+    return tickets.filter((t) => !changed.has(t.id));
+  }
+
+  const next = tickets.map((t) => changed.get(t.id) ?? t);
+  const known = new Set(tickets.map((t) => t.id));
+  for (const t of event.tickets) {
+    if (!known.has(t.id)) next.push(t);
+  }
+  return next;
+};
@@ -1,7 +1,18 @@
 // This file defines all Axios-based API calls to interact with the Spring Boot backend.
 
 import API from '../utils/axiosSetup'; // Use the configured instance
-import { Ticket } from '../types/ticket';
+import {
+  BatchResult,
+  IncidentStatsColumns,
+  IncidentStatsReport,
+  OpenTicketDue,
+  OpenTicketSummary,
+  Ticket,
+  TicketPage,
+  TicketLookup,
+  TicketPageQuery,
+  TicketSearchPage,
+} from '../types/ticket';
 
 export interface NewTicket {
   ticketId: string;
@@ -14,27 +25,78 @@ const TICKETS_BASE = '/tickets';
 // GET /api/tickets
 export const getTickets = () => API.get<Ticket[]>(TICKETS_BASE);
 
+// GET /api/tickets/page?cursor=...&limit=...&module=...
+export const getTicketPage = (query: TicketPageQuery = {}) =>
+  API.get<TicketPage>(`${TICKETS_BASE}/page`, { params: query });
+
+// GET /api/tickets/search?q=...&offset=...&limit=...
+export const searchTickets = (q: string, offset = 0, limit = 50) =>
+  API.get<TicketSearchPage>(`${TICKETS_BASE}/search`, { params: { q, offset, limit } });
+
+// GET /api/tickets/lookup/{ticketId}: live and archived tickets with this ID
+export const lookupTicket = (ticketId: string) =>
+  API.get<TicketLookup>(`${TICKETS_BASE}/lookup/${encodeURIComponent(ticketId)}`);
+
+// GET /api/tickets/open/summary?dueWithinDays=...
+export const getOpenSummary = (dueWithinDays = 2) =>
+  API.get<OpenTicketSummary[]>(`${TICKETS_BASE}/open/summary`, { params: { dueWithinDays } });
+
+// GET /api/tickets/open?module=...&dueWithinDays=...&limit=...
+export const getOpenTickets = (query: { module?: string; dueWithinDays?: number; limit?: number } = {}) =>
+  API.get<OpenTicketDue[]>(`${TICKETS_BASE}/open`, { params: query });
+
 // POST /api/tickets
 export const addTicket = (data: NewTicket) => API.post(TICKETS_BASE, data);
 
-// PUT /api/tickets/close/{id}
-export const closeTicket = (ticketId: string, closeDate: string) =>
-  API.put(`${TICKETS_BASE}/close/${ticketId}`, { closeDate });
+// PUT /api/tickets/close/{id}?module=...
+export const closeTicket = (ticketId: string, closeDate: string, module?: string) =>
+  API.put(`${TICKETS_BASE}/close/${ticketId}`, { closeDate }, { params: { module } });
 
-// PUT /api/tickets/reopen/{id}
-export const reopenTicket = (ticketId: string) =>
-  API.put(`${TICKETS_BASE}/reopen/${ticketId}`);
+// PUT /api/tickets/reopen/{id}?module=...
+export const reopenTicket = (ticketId: string, module?: string) =>
+  API.put(`${TICKETS_BASE}/reopen/${ticketId}`, undefined, { params: { module } });
 
 // DELETE /api/tickets/{module}/{ticketId}
 export const deleteTicket = (ticketId: string, module: string) =>
   API.delete(`${TICKETS_BASE}/${module}/${ticketId}`);
 
-// PUT /api/tickets/breach-reason/{id}
-export const updateBreachReason = (ticketId: string, reason: string) =>
+// PUT /api/tickets/breach-reason/{id}?module=...
+export const updateBreachReason = (ticketId: string, reason: string, module?: string) =>
   API.put(`${TICKETS_BASE}/breach-reason/${ticketId}`, reason, {
     headers: { 'Content-Type': 'application/json' },
+    params: { module },
   });
 
-// GET /api/tickets/stats?range=...
+// A ticket ID alone, or with its module when the ID exists in several modules
+export type TicketRef = string | { ticketId: string; module?: string };
+
+const toKeys = (tickets: TicketRef[]) =>
+  tickets.map((t) => (typeof t === 'string' ? { ticketId: t } : t));
+
+// PUT /api/tickets/batch/close
+export const closeTickets = (tickets: TicketRef[], closeDate?: string) =>
+  API.put<BatchResult>(`${TICKETS_BASE}/batch/close`, { tickets: toKeys(tickets), closeDate });
+
+// PUT /api/tickets/batch/reopen
+export const reopenTickets = (tickets: TicketRef[]) =>
+  API.put<BatchResult>(`${TICKETS_BASE}/batch/reopen`, { tickets: toKeys(tickets) });
+
+// PUT /api/tickets/batch/breach-reason
+export const updateBreachReasons = (tickets: TicketRef[], reason: string) =>
+  API.put<BatchResult>(`${TICKETS_BASE}/batch/breach-reason`, { tickets: toKeys(tickets), reason });
+
+// POST /api/tickets/batch/delete
+export const deleteTickets = (tickets: { ticketId: string; module: string }[]) =>
+  API.post<BatchResult>(`${TICKETS_BASE}/batch/delete`, { tickets });
+
+// GET /api/tickets/stats?range=...&format=columnar
 export const fetchIncidentStats = (range: string) =>
-  API.get(`${TICKETS_BASE}/stats?range=${range}`);
+  API.get<IncidentStatsColumns>(`${TICKETS_BASE}/stats`, {
+    params: { range, format: 'columnar' },
+  });
+
+// GET /api/tickets/stats/report?range=...&from=...&to=...&byModule=...
+export const fetchIncidentStatsReport = (
+  range: string,
+  query: { from?: string; to?: string; byModule?: boolean } = {},
+) => API.get<IncidentStatsReport>(`${TICKETS_BASE}/stats/report`, { params: { range, ...query } });
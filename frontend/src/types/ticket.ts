@@ -12,3 +12,87 @@ export interface Ticket {
   _localReason?: string; // client-side only
 }
 
+
+// One keyset page returned by GET /api/tickets/page
+export interface TicketPage {
+  items: Ticket[];
+  nextCursor: string | null; // Pass back as `cursor` to fetch the next page
+}
+
+// Per-module counts from GET /api/tickets/open/summary
+export interface OpenTicketSummary {
+  module: string; // "" for tickets without a module
+  open: number;
+  dueSoon: number; // SLA due within the requested window, not yet breached
+  breached: number; // SLA due date already passed
+}
+
+// One open ticket from GET /api/tickets/open, earliest due first
+export interface OpenTicketDue {
+  id: number;
+  ticketId: string;
+  module: string;
+  slaDueDate: string | null;
+  daysToSla: number; // Negative once breached
+}
+
+// One page returned by GET /api/tickets/search, best match first
+export interface TicketSearchPage {
+  items: Ticket[];
+  matches: number; // Ranked matches, at most the server's candidate cap
+  truncated: boolean; // More tickets matched than were ranked; narrow the search
+  nextOffset: number | null; // Pass back as `offset` to fetch the next page
+}
+
+// Result of GET /api/tickets/lookup/{ticketId}; archived tickets are closed and no longer listed
+export interface TicketLookup {
+  active: Ticket[];
+  archived: Ticket[];
+}
+
+// Optional query parameters for GET /api/tickets/page
+export interface TicketPageQuery {
+  cursor?: string;
+  limit?: number;
+  module?: string;
+  status?: string;
+  from?: string; // ISO date, inclusive
+  to?: string; // ISO date, inclusive
+  breachedOnly?: boolean;
+}
+
+// GET /api/tickets/stats?format=columnar: one shared label axis, counts aligned with it per series
+export interface IncidentStatsColumns {
+  labels: string[]; // Bucket labels, ascending (e.g. "2025-06" for monthly)
+  series: Record<string, number[]>; // Raised / Open / Closed / Breached, zeros included
+}
+
+// GET /api/tickets/stats/report: like IncidentStatsColumns, over a date window and optionally per module
+export interface IncidentStatsReport {
+  range: string;
+  from: string | null;
+  to: string | null;
+  labels: string[];
+  totals: Record<string, number[]>; // Series label -> counts aligned with labels
+  byModule: Record<string, Record<string, number[]>> | null; // Series -> module -> counts; null unless requested
+  partial: boolean; // Some series missed the server's deadline; retry for a complete report
+  missing: string[]; // Series left out of totals and byModule
+}
+
+// Per-item outcome of the /api/tickets/batch/* endpoints
+export interface BatchResult {
+  requested: number; // Distinct tickets in the request
+  changed: number; // Tickets updated or deleted
+  items: {
+    ticketId: string;
+    module: string | null;
+    outcome: 'UPDATED' | 'DELETED' | 'UNCHANGED' | 'NOT_FOUND' | 'AMBIGUOUS';
+    ticket: Ticket | null; // State after the change (before it, for DELETED)
+  }[];
+}
+
+// Change pushed by GET /api/tickets/events
+export interface TicketEvent {
+  type: 'ADDED' | 'CLOSED' | 'REOPENED' | 'BREACH_REASON' | 'DELETED' | 'BREACHED' | 'IMPORTED' | 'ARCHIVED' | 'RESTORED';
+  tickets: Ticket[]; // State after the change (before it, for DELETED and ARCHIVED); empty for IMPORTED
+}